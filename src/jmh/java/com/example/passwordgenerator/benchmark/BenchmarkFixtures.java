@@ -0,0 +1,73 @@
+package com.example.passwordgenerator.benchmark;
+
+import com.example.passwordgenerator.cache.PasswordCache;
+import com.example.passwordgenerator.entity.Password;
+import com.example.passwordgenerator.generator.PasswordGenerator;
+import com.example.passwordgenerator.generator.PasswordPregenerator;
+import com.example.passwordgenerator.hashing.PasswordHashingPipeline;
+import com.example.passwordgenerator.repository.PasswordRepository;
+import com.example.passwordgenerator.service.PasswordService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+final class BenchmarkFixtures {
+
+    static final int MIN_BCRYPT_STRENGTH = 4;
+
+    private BenchmarkFixtures() {
+    }
+
+    static PasswordService passwordService() {
+        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(MIN_BCRYPT_STRENGTH);
+        return new PasswordService(passwordRepository(), new NonCachingPasswordCache(),
+                new PasswordPregenerator(new PasswordGenerator(0)), new PasswordHashingPipeline(passwordEncoder, 0, 64),
+                null);
+    }
+
+    static PasswordRepository passwordRepository() {
+        return (PasswordRepository) Proxy.newProxyInstance(
+                PasswordRepository.class.getClassLoader(),
+                new Class<?>[]{PasswordRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "save" -> args[0];
+                    case "saveAll" -> {
+                        List<Object> saved = new ArrayList<>();
+                        ((Iterable<?>) args[0]).forEach(saved::add);
+                        yield saved;
+                    }
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "PasswordRepositoryStub";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    static final class NonCachingPasswordCache extends PasswordCache {
+
+        @Override
+        public Optional<String> getGeneratedPassword(String key) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void putGeneratedPassword(String key, String password) {
+        }
+
+        @Override
+        public Optional<List<String>> getBulkPasswords(String key) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void putBulkPasswords(String key, List<String> passwords) {
+        }
+
+        @Override
+        public void putAllPasswords(List<Password> passwords) {
+        }
+    }
+}
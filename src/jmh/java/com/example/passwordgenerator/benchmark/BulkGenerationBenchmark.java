@@ -0,0 +1,71 @@
+package com.example.passwordgenerator.benchmark;
+
+import com.example.passwordgenerator.dto.PasswordGenerationRequest;
+import com.example.passwordgenerator.generator.PasswordGenerator;
+import com.example.passwordgenerator.service.PasswordService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class BulkGenerationBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int batchSize;
+
+    private PasswordService passwordService;
+    private PasswordGenerator generator;
+    private List<PasswordGenerationRequest> requests;
+    private int[] lengths;
+    private int[] complexities;
+
+    @Setup
+    public void setUp() {
+        passwordService = BenchmarkFixtures.passwordService();
+        generator = new PasswordGenerator(0);
+        requests = new ArrayList<>(batchSize);
+        lengths = new int[batchSize];
+        complexities = new int[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            requests.add(new PasswordGenerationRequest(4 + i % 27, 1 + i % 3, "owner" + i));
+            lengths[i] = 4 + i % 27;
+            complexities[i] = 1 + i % 3;
+        }
+    }
+
+    @Benchmark
+    public List<String> generatorPerItem() {
+        List<String> passwords = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            passwords.add(generator.generate(lengths[i], complexities[i]));
+        }
+        return passwords;
+    }
+
+    @Benchmark
+    public List<String> generatorBatch() {
+        return generator.generateBatch(lengths, complexities);
+    }
+
+    @Benchmark
+    public List<String> generatePasswordsBulk() {
+        return passwordService.generatePasswordsBulk(requests);
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.passwordgenerator.benchmark;
+
+import com.example.passwordgenerator.cache.PasswordCache;
+import com.example.passwordgenerator.cache.TagCache;
+import com.example.passwordgenerator.entity.Password;
+import com.example.passwordgenerator.entity.Tag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheBenchmark {
+
+    private static final int KEYS = 1024;
+
+    private PasswordCache passwordCache;
+    private TagCache tagCache;
+    private String[] generatedKeys;
+    private Password[] passwords;
+    private Tag[] tags;
+
+    @Setup
+    public void setUp() {
+        passwordCache = new PasswordCache();
+        tagCache = new TagCache();
+        generatedKeys = new String[KEYS];
+        passwords = new Password[KEYS];
+        tags = new Tag[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            generatedKeys[i] = "12_3_owner" + i;
+            passwords[i] = new Password("password" + i, "owner" + i);
+            tags[i] = new Tag("tag" + i);
+            passwordCache.putGeneratedPassword(generatedKeys[i], "password" + i);
+            passwordCache.putPasswordById((long) i, passwords[i]);
+            tagCache.putTagById((long) i, tags[i]);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Optional<Password> passwordByIdGet() {
+        return passwordCache.getPasswordById((long) nextKey());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Optional<Password> passwordByIdGetContended() {
+        return passwordCache.getPasswordById((long) nextKey());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void passwordByIdPut() {
+        int key = nextKey();
+        passwordCache.putPasswordById((long) key, passwords[key]);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void passwordByIdPutContended() {
+        int key = nextKey();
+        passwordCache.putPasswordById((long) key, passwords[key]);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Optional<String> generatedGet() {
+        return passwordCache.getGeneratedPassword(generatedKeys[nextKey()]);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Optional<String> generatedGetContended() {
+        return passwordCache.getGeneratedPassword(generatedKeys[nextKey()]);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Optional<Tag> tagByIdGet() {
+        return tagCache.getTagById((long) nextKey());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Optional<Tag> tagByIdGetContended() {
+        return tagCache.getTagById((long) nextKey());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void tagByIdPut() {
+        int key = nextKey();
+        tagCache.putTagById((long) key, tags[key]);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void tagByIdPutContended() {
+        int key = nextKey();
+        tagCache.putTagById((long) key, tags[key]);
+    }
+
+    private static int nextKey() {
+        return ThreadLocalRandom.current().nextInt(KEYS);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.passwordgenerator.benchmark;
+
+import com.example.passwordgenerator.hashing.PasswordHashingPipeline;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Each JMH thread is a client; a request blocks on a simulated JDBC round-trip and then hashes one password.
+// Run on Java 21+ for the "virtual" mode; on older runtimes its setup fails with a clear message.
+// The workload is synthetic (sleep plus hash); for the real application under the same request mix, run the
+// loadtest profile with -Dloadtest.compare-threads=true, which reports platform and virtual threads side by side.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(256)
+public class ExecutionModeBenchmark {
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param("50")
+    public int platformThreads;
+
+    @Param("5")
+    public int jdbcLatencyMillis;
+
+    private ExecutorService requestExecutor;
+    private PasswordHashingPipeline hashingPipeline;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        requestExecutor = "virtual".equals(mode)
+                ? VirtualThreadExecutors.newPerTaskExecutor()
+                : Executors.newFixedThreadPool(platformThreads);
+        hashingPipeline = new PasswordHashingPipeline(
+                new BCryptPasswordEncoder(BenchmarkFixtures.MIN_BCRYPT_STRENGTH), 0, 64);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        requestExecutor.shutdownNow();
+        hashingPipeline.shutdown();
+    }
+
+    @Benchmark
+    public String request() throws ExecutionException, InterruptedException {
+        return requestExecutor.submit(() -> {
+            Thread.sleep(jdbcLatencyMillis);
+            return hashingPipeline.encode("password");
+        }).get();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.passwordgenerator.benchmark;
+
+import com.example.passwordgenerator.generator.PasswordGenerator;
+import com.example.passwordgenerator.service.PasswordService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PasswordGenerationBenchmark {
+
+    @Param({"4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15", "16", "17", "18", "19", "20",
+            "21", "22", "23", "24", "25", "26", "27", "28", "29", "30"})
+    private int length;
+
+    @Param({"1", "2", "3"})
+    private int complexity;
+
+    private PasswordGenerator generator;
+    private PasswordService passwordService;
+
+    @Setup
+    public void setUp() {
+        generator = new PasswordGenerator(0);
+        passwordService = BenchmarkFixtures.passwordService();
+    }
+
+    @Benchmark
+    public String generator() {
+        return generator.generate(length, complexity);
+    }
+
+    @Benchmark
+    public String service() {
+        return passwordService.generatePassword(length, complexity, "benchmark");
+    }
+}
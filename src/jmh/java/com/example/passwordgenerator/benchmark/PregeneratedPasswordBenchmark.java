@@ -0,0 +1,79 @@
+package com.example.passwordgenerator.benchmark;
+
+import com.example.passwordgenerator.generator.PasswordGenerator;
+import com.example.passwordgenerator.generator.PasswordPregenerator;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Request-thread latency of /generate with and without pre-generation; the "fallbacks" counter shows
+// how often the refill thread could not keep up.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PregeneratedPasswordBenchmark {
+
+    @Param({"false", "true"})
+    public boolean pregenerate;
+
+    @Param({"12"})
+    public int length;
+
+    private PasswordPregenerator pregenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pregenerator = new PasswordPregenerator(new PasswordGenerator(0), pregenerate, 4096, 1024,
+                Duration.ofMillis(1));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pregenerator.shutdown();
+    }
+
+    // Pool hits and fallbacks per iteration, reported next to the latency.
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PoolCounters {
+        public long hits;
+        public long fallbacks;
+        private PasswordPregenerator.PregenStats start;
+
+        @Setup(Level.Iteration)
+        public void start(PregeneratedPasswordBenchmark benchmark) {
+            start = benchmark.pregenerator.stats();
+            hits = 0;
+            fallbacks = 0;
+        }
+
+        @TearDown(Level.Iteration)
+        public void finish(PregeneratedPasswordBenchmark benchmark) {
+            PasswordPregenerator.PregenStats end = benchmark.pregenerator.stats();
+            hits = end.hits() - start.hits();
+            fallbacks = end.fallbacks() - start.fallbacks();
+        }
+    }
+
+    @Benchmark
+    public String next(PoolCounters counters) {
+        return pregenerator.next(length, PasswordGenerator.MAX_COMPLEXITY);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.passwordgenerator.benchmark;
+
+import com.example.passwordgenerator.counter.RequestCounter;
+import com.example.passwordgenerator.counter.RequestCounterInterface.Operation;
+import com.example.passwordgenerator.counter.RequestCounterInterface.Outcome;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestCounterBenchmark {
+
+    private final AtomicLong atomicCounter = new AtomicLong();
+    private final RequestCounter requestCounter = new RequestCounter();
+
+    @Benchmark
+    @Threads(1)
+    public long atomicLong() {
+        return atomicCounter.incrementAndGet();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public long atomicLongContended() {
+        return atomicCounter.incrementAndGet();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void striped() {
+        requestCounter.record(Operation.SINGLE, 2, Outcome.SUCCESS, 1);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void stripedContended() {
+        requestCounter.record(Operation.SINGLE, 2, Outcome.SUCCESS, 1);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void stripedBulkContended() {
+        requestCounter.record(Operation.BULK, 3, Outcome.SUCCESS, 100);
+    }
+}
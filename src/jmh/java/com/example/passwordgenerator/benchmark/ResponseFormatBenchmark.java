@@ -0,0 +1,74 @@
+package com.example.passwordgenerator.benchmark;
+
+import com.example.passwordgenerator.entity.Password;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class ResponseFormatBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int size;
+
+    @Param({"json", "cbor", "json-gzip", "cbor-gzip"})
+    private String format;
+
+    private List<Password> passwords;
+    private ObjectWriter writer;
+    private boolean gzip;
+
+    @Setup
+    public void setUp() {
+        passwords = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Password password = new Password("$2a$10$" + "x".repeat(53) + i, "owner" + i % 100);
+            password.setId((long) i);
+            passwords.add(password);
+        }
+        writer = format.startsWith("cbor") ? new CBORMapper().writer() : new JsonMapper().writer();
+        gzip = format.endsWith("-gzip");
+    }
+
+    // Reported next to the timing as "payloadBytes": the encoded size of one response.
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+        public long payloadBytes;
+    }
+
+    @Benchmark
+    public byte[] encode(Payload payload) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = gzip ? new GZIPOutputStream(bytes) : bytes) {
+            writer.writeValue(out, passwords);
+        }
+        payload.payloadBytes = bytes.size();
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.passwordgenerator.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// The project still targets Java 17, so the Java 21 executor factory is looked up reflectively.
+final class VirtualThreadExecutors {
+
+    private static final MethodHandle NEW_PER_TASK_EXECUTOR = find();
+
+    private VirtualThreadExecutors() {
+    }
+
+    static ExecutorService newPerTaskExecutor() {
+        if (NEW_PER_TASK_EXECUTOR == null) {
+            throw new UnsupportedOperationException("Виртуальные потоки доступны начиная с Java 21.");
+        }
+        try {
+            return (ExecutorService) NEW_PER_TASK_EXECUTOR.invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Не удалось создать исполнитель на виртуальных потоках.", e);
+        }
+    }
+
+    private static MethodHandle find() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
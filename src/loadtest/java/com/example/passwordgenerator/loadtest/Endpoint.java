@@ -0,0 +1,80 @@
+package com.example.passwordgenerator.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+enum Endpoint {
+
+    GENERATE("generate") {
+        @Override
+        HttpRequest.Builder request(URI base, int tags) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            return get(base, "/api/passwords/generate?length=" + random.nextInt(8, 31)
+                    + "&complexity=" + random.nextInt(1, 4) + "&owner=load-" + random.nextInt(1_000));
+        }
+    },
+    GENERATE_BULK("generate-bulk") {
+        @Override
+        HttpRequest.Builder request(URI base, int tags) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            StringBuilder body = new StringBuilder("[");
+            for (int i = 0; i < BULK_SIZE; i++) {
+                if (i > 0) {
+                    body.append(',');
+                }
+                body.append("{\"length\":").append(random.nextInt(8, 31))
+                        .append(",\"complexity\":").append(random.nextInt(1, 4))
+                        .append(",\"owner\":\"bulk-").append(random.nextInt(1_000)).append("\"}");
+            }
+            return HttpRequest.newBuilder(base.resolve("/api/passwords/generate-bulk"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body.append(']').toString()));
+        }
+    },
+    PASSWORDS("passwords") {
+        @Override
+        HttpRequest.Builder request(URI base, int tags) {
+            return get(base, "/api/passwords");
+        }
+    },
+    BY_TAG("by-tag") {
+        @Override
+        HttpRequest.Builder request(URI base, int tags) {
+            return get(base, "/api/passwords/by-tag?tagName=" + LoadTestSeeder.tagName(
+                    ThreadLocalRandom.current().nextInt(Math.max(tags, 1))));
+        }
+    },
+    TAGS("tags") {
+        @Override
+        HttpRequest.Builder request(URI base, int tags) {
+            return get(base, "/api/tags");
+        }
+    };
+
+    private static final int BULK_SIZE = 10;
+
+    private final String key;
+
+    Endpoint(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    abstract HttpRequest.Builder request(URI base, int tags);
+
+    static Endpoint byName(String key) {
+        return Arrays.stream(values())
+                .filter(endpoint -> endpoint.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Неизвестный эндпоинт нагрузки: " + key));
+    }
+
+    private static HttpRequest.Builder get(URI base, String path) {
+        return HttpRequest.newBuilder(base.resolve(path)).GET();
+    }
+}
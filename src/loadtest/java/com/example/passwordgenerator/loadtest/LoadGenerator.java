@@ -0,0 +1,92 @@
+package com.example.passwordgenerator.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop driver: each endpoint is sent at its own fixed rate, and latency is measured from the scheduled send
+ * time, so a slow server cannot hide queueing delay by slowing the load down.
+ */
+final class LoadGenerator {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final URI base;
+    private final int tags;
+
+    LoadGenerator(URI base, int tags) {
+        this.base = base;
+        this.tags = tags;
+    }
+
+    List<LoadReport.EndpointReport> run(Map<Endpoint, Double> rates, Duration warmup, Duration duration) {
+        Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+        Map<Endpoint, Long> periods = new EnumMap<>(Endpoint.class);
+        Map<Endpoint, Long> nextSend = new EnumMap<>(Endpoint.class);
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        rates.forEach((endpoint, rate) -> {
+            recorders.put(endpoint, new LatencyRecorder());
+            periods.put(endpoint, (long) (TimeUnit.SECONDS.toNanos(1) / rate));
+            nextSend.put(endpoint, start);
+        });
+
+        Map<CompletableFuture<?>, Boolean> pending = new ConcurrentHashMap<>();
+        while (true) {
+            Endpoint endpoint = earliest(nextSend);
+            long intended = nextSend.get(endpoint);
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            nextSend.put(endpoint, intended + periods.get(endpoint));
+            LatencyRecorder recorder = intended >= measureFrom ? recorders.get(endpoint) : null;
+            CompletableFuture<?> response = client.sendAsync(
+                            endpoint.request(base, tags).timeout(REQUEST_TIMEOUT).build(),
+                            HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((result, failure) -> {
+                        if (recorder != null) {
+                            boolean success = failure == null && result.statusCode() < 400;
+                            recorder.record(System.nanoTime() - intended, success);
+                        }
+                    });
+            pending.put(response, Boolean.TRUE);
+            response.whenComplete((result, failure) -> pending.remove(response));
+        }
+        CompletableFuture.allOf(pending.keySet().toArray(new CompletableFuture<?>[0]))
+                .exceptionally(failure -> null)
+                .join();
+
+        double seconds = duration.toNanos() / 1e9;
+        List<LoadReport.EndpointReport> reports = new ArrayList<>();
+        recorders.forEach((endpoint, recorder) -> reports.add(recorder.report(endpoint.key(), seconds)));
+        return reports;
+    }
+
+    private static Endpoint earliest(Map<Endpoint, Long> nextSend) {
+        Endpoint earliest = null;
+        for (Map.Entry<Endpoint, Long> entry : nextSend.entrySet()) {
+            if (earliest == null || entry.getValue() < nextSend.get(earliest)) {
+                earliest = entry.getKey();
+            }
+        }
+        return earliest;
+    }
+}
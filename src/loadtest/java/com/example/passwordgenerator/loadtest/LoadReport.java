@@ -0,0 +1,11 @@
+package com.example.passwordgenerator.loadtest;
+
+import java.util.List;
+
+record LoadReport(String build, String database, String threads, int seededPasswords, int seededTags,
+                  double durationSeconds, List<EndpointReport> endpoints, List<String> warnings) {
+
+    record EndpointReport(String endpoint, long requests, long errors, double errorRate, double throughput,
+                          double p50Millis, double p99Millis, double maxMillis) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.passwordgenerator.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+record LoadTestConfig(String build, String jdbcUrl, int passwords, int tags, Duration warmup, Duration duration,
+                      Map<Endpoint, Double> rates, Path report, boolean compareThreads) {
+
+    static final String DEFAULT_MIX = "generate:20,generate-bulk:2,passwords:2,by-tag:20,tags:20";
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                System.getProperty("loadtest.build", "local"),
+                System.getProperty("loadtest.jdbc-url", ""),
+                Integer.getInteger("loadtest.passwords", 10_000),
+                Integer.getInteger("loadtest.tags", 100),
+                Duration.parse("PT" + System.getProperty("loadtest.warmup", "10s")),
+                Duration.parse("PT" + System.getProperty("loadtest.duration", "60s")),
+                parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)),
+                Path.of(System.getProperty("loadtest.report", "target/loadtest/report.json")),
+                Boolean.getBoolean("loadtest.compare-threads"));
+    }
+
+    static Map<Endpoint, Double> parseMix(String mix) {
+        Map<Endpoint, Double> rates = new EnumMap<>(Endpoint.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Некорректный элемент нагрузки: " + entry);
+            }
+            double rate = Double.parseDouble(parts[1]);
+            if (rate > 0) {
+                rates.put(Endpoint.byName(parts[0].trim()), rate);
+            }
+        }
+        if (rates.isEmpty()) {
+            throw new IllegalArgumentException("Не задан ни один эндпоинт нагрузки.");
+        }
+        return rates;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.passwordgenerator.loadtest;
+
+import com.example.passwordgenerator.PasswordGeneratorApplication;
+import com.example.passwordgenerator.repository.PasswordRepository;
+import com.example.passwordgenerator.repository.TagRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Starts the application on a random port against an embedded H2 database, or against the local PostgreSQL
+ * given by {@code loadtest.jdbc-url}, seeds it, drives the configured request mix and writes a JSON report.
+ * With {@code loadtest.compare-threads=true} the same seed and mix run twice, with virtual threads off and
+ * on, and the report holds both runs.
+ */
+public final class LoadTestMain {
+
+    private static final String VIRTUAL_THREADS = "spring.threads.virtual.enabled";
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        if (!config.compareThreads()) {
+            write(run(config, Map.of(), args), config);
+            return;
+        }
+        List<LoadReport> reports = List.of(
+                run(config, Map.of(VIRTUAL_THREADS, false), args),
+                run(config, Map.of(VIRTUAL_THREADS, true), args));
+        write(reports, config);
+    }
+
+    // Each run gets its own context, so the schema is recreated and seeded from scratch.
+    private static LoadReport run(LoadTestConfig config, Map<String, Object> overrides, String[] args) {
+        Map<String, Object> properties = applicationProperties(config);
+        properties.putAll(overrides);
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(PasswordGeneratorApplication.class)
+                .properties(properties);
+        if (config.jdbcUrl().isEmpty()) {
+            builder.profiles("h2");
+        }
+        try (ConfigurableApplicationContext context = builder.run(args)) {
+            String threads = Threading.VIRTUAL.isActive(context.getEnvironment()) ? "virtual" : "platform";
+            List<String> warnings = new ArrayList<>();
+            if (Boolean.TRUE.equals(overrides.get(VIRTUAL_THREADS)) && "platform".equals(threads)) {
+                warnings.add("Виртуальные потоки доступны начиная с Java 21, прогон выполнен на "
+                        + "платформенных потоках.");
+            }
+            LoadTestSeeder.seed(context.getBean(PasswordRepository.class), context.getBean(TagRepository.class),
+                    config.passwords(), config.tags());
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            List<LoadReport.EndpointReport> endpoints = new LoadGenerator(
+                    URI.create("http://localhost:" + port), config.tags())
+                    .run(config.rates(), config.warmup(), config.duration());
+            return new LoadReport(config.build(), config.jdbcUrl().isEmpty() ? "h2" : "postgresql", threads,
+                    config.passwords(), config.tags(), config.duration().toNanos() / 1e9, endpoints, warnings);
+        }
+    }
+
+    private static Map<String, Object> applicationProperties(LoadTestConfig config) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("password.logging.sample-rate", 0);
+        if (!config.jdbcUrl().isEmpty()) {
+            properties.put("spring.datasource.url", config.jdbcUrl());
+            properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        }
+        return properties;
+    }
+
+    private static void write(Object report, LoadTestConfig config) throws IOException {
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        Files.createDirectories(config.report().toAbsolutePath().getParent());
+        mapper.writeValue(config.report().toFile(), report);
+        System.out.println(mapper.writeValueAsString(report));
+    }
+}
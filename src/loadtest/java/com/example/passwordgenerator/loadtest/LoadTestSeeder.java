@@ -0,0 +1,43 @@
+package com.example.passwordgenerator.loadtest;
+
+import com.example.passwordgenerator.entity.Password;
+import com.example.passwordgenerator.entity.Tag;
+import com.example.passwordgenerator.repository.PasswordRepository;
+import com.example.passwordgenerator.repository.TagRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class LoadTestSeeder {
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    private LoadTestSeeder() {
+    }
+
+    static String tagName(int index) {
+        return "load-tag-" + index;
+    }
+
+    // Rows carry a placeholder hash: seeding measures nothing, so BCrypt is skipped here.
+    static void seed(PasswordRepository passwordRepository, TagRepository tagRepository, int passwords, int tags) {
+        List<Tag> seededTags = new ArrayList<>(tags);
+        for (int i = 0; i < tags; i++) {
+            seededTags.add(new Tag(tagName(i)));
+        }
+        List<Password> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < passwords; i++) {
+            chunk.add(new Password("seed-hash-" + i, "seed-owner-" + i % 1_000));
+            if (chunk.size() == CHUNK_SIZE || i == passwords - 1) {
+                List<Password> saved = passwordRepository.saveAll(chunk);
+                if (tags > 0) {
+                    for (int j = 0; j < saved.size(); j++) {
+                        seededTags.get((i - saved.size() + 1 + j) % tags).getPasswordEntries().add(saved.get(j));
+                    }
+                }
+                chunk = new ArrayList<>(CHUNK_SIZE);
+            }
+        }
+        tagRepository.saveAll(seededTags);
+    }
+}
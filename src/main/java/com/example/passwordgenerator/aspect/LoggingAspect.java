@@ -1,32 +1,99 @@
 package com.example.passwordgenerator.aspect;
 
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.annotation.AfterReturning;
-import org.aspectj.lang.annotation.AfterThrowing;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
 @Aspect
 @Component
 public class LoggingAspect {
 
     private static final Logger logger = LoggerFactory.getLogger(LoggingAspect.class);
 
-    @Before("execution(* com.example.passwordgenerator.controller.*.*(..))")
-    public void logBefore(JoinPoint joinPoint) {
-        logger.info("Вызван метод: " + joinPoint.getSignature().getName());
+    private final LoggingProperties properties;
+    private final long slowThresholdNanos;
+
+    public LoggingAspect(LoggingProperties properties) {
+        this.properties = properties;
+        this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+    }
+
+    @Around("execution(* com.example.passwordgenerator.controller.*.*(..))")
+    public Object logCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable error) {
+            logger.error("Ошибка в методе {}: {} ({} мс)", endpoint(joinPoint), error.getMessage(),
+                    elapsedMillis(start));
+            throw error;
+        }
+        long elapsed = System.nanoTime() - start;
+        if (elapsed >= slowThresholdNanos) {
+            if (logger.isWarnEnabled()) {
+                logger.warn("Медленный вызов {}: {} мс, результат: {}", endpoint(joinPoint),
+                        TimeUnit.NANOSECONDS.toMillis(elapsed), new ResultSummary(result));
+            }
+        } else if (logger.isInfoEnabled() && sampled(endpoint(joinPoint))) {
+            logger.info("Метод {} завершился за {} мс с результатом: {}", endpoint(joinPoint),
+                    TimeUnit.NANOSECONDS.toMillis(elapsed), new ResultSummary(result));
+        }
+        return result;
+    }
+
+    private boolean sampled(String endpoint) {
+        double rate = properties.sampleRateFor(endpoint);
+        return rate >= 1.0 || rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private static String endpoint(ProceedingJoinPoint joinPoint) {
+        Signature signature = joinPoint.getSignature();
+        return signature.getDeclaringType().getSimpleName() + "." + signature.getName();
     }
 
-    @AfterReturning(pointcut = "execution(* com.example.passwordgenerator.controller.*.*(..))", returning = "result")
-    public void logAfterReturning(JoinPoint joinPoint, Object result) {
-        logger.info("Метод " + joinPoint.getSignature().getName() + " завершился с результатом: " + result);
+    private static long elapsedMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
     }
 
-    @AfterThrowing(pointcut = "execution(* com.example.passwordgenerator.controller.*.*(..))", throwing = "error")
-    public void logAfterThrowing(JoinPoint joinPoint, Throwable error) {
-        logger.error("Ошибка в методе " + joinPoint.getSignature().getName() + ": " + error.getMessage());
+    record ResultSummary(Object result) {
+
+        @Override
+        public String toString() {
+            if (result instanceof ResponseEntity<?> response) {
+                return response.getStatusCode().value() + " " + describe(response.getBody());
+            }
+            return describe(result);
+        }
+
+        private static String describe(Object value) {
+            if (value == null) {
+                return "null";
+            }
+            String type = value.getClass().getSimpleName();
+            if (value instanceof Collection<?> collection) {
+                return type + "[size=" + collection.size() + "]";
+            }
+            if (value instanceof Map<?, ?> map) {
+                return type + "[size=" + map.size() + "]";
+            }
+            if (value instanceof CharSequence text) {
+                return type + "[length=" + text.length() + "]";
+            }
+            if (value instanceof Number || value instanceof Boolean) {
+                return type + "[" + value + "]";
+            }
+            return type;
+        }
     }
-}
\ No newline at end of file
+}
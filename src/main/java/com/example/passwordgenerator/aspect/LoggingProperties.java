@@ -0,0 +1,45 @@
+package com.example.passwordgenerator.aspect;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "password.logging")
+public class LoggingProperties {
+
+    private static final Duration DEFAULT_SLOW_THRESHOLD = Duration.ofMillis(500);
+
+    private double sampleRate = 1.0;
+    private Map<String, Double> endpointSampleRates = new HashMap<>();
+    private Duration slowThreshold = DEFAULT_SLOW_THRESHOLD;
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public Map<String, Double> getEndpointSampleRates() {
+        return endpointSampleRates;
+    }
+
+    public void setEndpointSampleRates(Map<String, Double> endpointSampleRates) {
+        this.endpointSampleRates = endpointSampleRates;
+    }
+
+    public Duration getSlowThreshold() {
+        return slowThreshold;
+    }
+
+    public void setSlowThreshold(Duration slowThreshold) {
+        this.slowThreshold = slowThreshold;
+    }
+
+    public double sampleRateFor(String endpoint) {
+        return endpointSampleRates.getOrDefault(endpoint, sampleRate);
+    }
+}
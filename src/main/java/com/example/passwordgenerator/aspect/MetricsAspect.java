@@ -0,0 +1,56 @@
+package com.example.passwordgenerator.aspect;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Aspect
+@Component
+public class MetricsAspect {
+
+    private final Timer generationTimer;
+    private final Timer hashingTimer;
+    private final AtomicInteger generationInFlight = new AtomicInteger();
+
+    public MetricsAspect(MeterRegistry meterRegistry) {
+        this.generationTimer = Timer.builder("password.generation")
+                .description("Генерация одного пароля")
+                .register(meterRegistry);
+        this.hashingTimer = Timer.builder("password.hashing")
+                .description("Хеширование одного пароля")
+                .register(meterRegistry);
+        Gauge.builder("password.generation.in-flight", generationInFlight, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    @Around("execution(* com.example.passwordgenerator.service.PasswordService.generatePassword(..))")
+    public Object timeGeneration(ProceedingJoinPoint joinPoint) throws Throwable {
+        generationInFlight.incrementAndGet();
+        try {
+            return time(generationTimer, joinPoint);
+        } finally {
+            generationInFlight.decrementAndGet();
+        }
+    }
+
+    @Around("execution(* org.springframework.security.crypto.password.PasswordEncoder+.encode(..))")
+    public Object timeHashing(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(hashingTimer, joinPoint);
+    }
+
+    private static Object time(Timer timer, ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -1,13 +1,16 @@
 package com.example.passwordgenerator.aspect;
 
 import com.example.passwordgenerator.counter.RequestCounterInterface;
-import org.aspectj.lang.JoinPoint;
+import com.example.passwordgenerator.counter.RequestCounterInterface.Operation;
+import com.example.passwordgenerator.counter.RequestCounterInterface.Outcome;
+import com.example.passwordgenerator.dto.PasswordGenerationRequest;
+import com.example.passwordgenerator.generator.PasswordGenerator;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.Objects;
 
 @Aspect
 @Component
@@ -19,21 +22,50 @@ public class RequestCounterAspect {
         this.requestCounter = requestCounter;
     }
 
-    @Before(
-            "execution(* com.example.passwordgenerator.service.PasswordService.generatePassword(..)) || " +
-                    "execution(* com.example.passwordgenerator.service.PasswordService.generatePasswordsBulk(..))"
+    @Around(
+            "execution(* com.example.passwordgenerator.service.PasswordService.generatePassword(..)) || "
+            + "execution(* com.example.passwordgenerator.service.PasswordService.generatePasswordsBulk(..))"
+            + " || "
+            + "execution(* com.example.passwordgenerator.service.PasswordService.generatePasswordsBatch(..))"
     )
-    public void countPasswordGeneration(JoinPoint joinPoint) {
+    public Object countPasswordGeneration(ProceedingJoinPoint joinPoint) throws Throwable {
         String methodName = joinPoint.getSignature().getName();
+        Object[] args = joinPoint.getArgs();
+        Outcome outcome = Outcome.FAILURE;
+        try {
+            Object result = joinPoint.proceed();
+            outcome = Outcome.SUCCESS;
+            return result;
+        } finally {
+            if ("generatePassword".equals(methodName)) {
+                countSingle(args, outcome);
+            } else {
+                countBulk(args, outcome);
+            }
+        }
+    }
+
+    private void countSingle(Object[] args, Outcome outcome) {
+        int complexity = args != null && args.length > 1 && args[1] instanceof Integer value ? value : 0;
+        requestCounter.record(Operation.SINGLE, complexity, outcome, 1);
+    }
 
-        if ("generatePassword".equals(methodName)) {
-            requestCounter.increment();
-        } else if ("generatePasswordsBulk".equals(methodName)) {
-            Object[] args = joinPoint.getArgs();
-            if (args != null && args.length > 0 && args[0] instanceof List<?> requests) {
-                requests.stream()
-                        .filter(Objects::nonNull)
-                        .forEach(r -> requestCounter.increment());
+    private void countBulk(Object[] args, Outcome outcome) {
+        if (args == null || args.length == 0 || !(args[0] instanceof List<?> requests)) {
+            return;
+        }
+        long[] byComplexity = new long[PasswordGenerator.MAX_COMPLEXITY + 1];
+        for (Object request : requests) {
+            if (request instanceof PasswordGenerationRequest generationRequest) {
+                int complexity = generationRequest.getComplexity();
+                boolean known = complexity >= PasswordGenerator.MIN_COMPLEXITY
+                        && complexity <= PasswordGenerator.MAX_COMPLEXITY;
+                byComplexity[known ? complexity : 0]++;
+            }
+        }
+        for (int complexity = 0; complexity < byComplexity.length; complexity++) {
+            if (byComplexity[complexity] > 0) {
+                requestCounter.record(Operation.BULK, complexity, outcome, byComplexity[complexity]);
             }
         }
     }
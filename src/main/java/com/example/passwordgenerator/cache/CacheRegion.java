@@ -0,0 +1,180 @@
+package com.example.passwordgenerator.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
+
+public class CacheRegion<K, V> {
+
+    private static final int EVICTION_HEADROOM_PERCENT = 90;
+    private static final int PERCENT = 100;
+
+    private final String name;
+    private final long maxWeight;
+    private final long ttlNanos;
+    private final ToIntFunction<V> weigher;
+    private final BiConsumer<K, V> removalListener;
+    private final LongSupplier ticker;
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong weight = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CacheRegion(String name, long maxWeight, Duration ttl, ToIntFunction<V> weigher) {
+        this(name, maxWeight, ttl, weigher, (key, value) -> { }, System::nanoTime);
+    }
+
+    public CacheRegion(String name, long maxWeight, Duration ttl, ToIntFunction<V> weigher,
+                       BiConsumer<K, V> removalListener) {
+        this(name, maxWeight, ttl, weigher, removalListener, System::nanoTime);
+    }
+
+    CacheRegion(String name, long maxWeight, Duration ttl, ToIntFunction<V> weigher, LongSupplier ticker) {
+        this(name, maxWeight, ttl, weigher, (key, value) -> { }, ticker);
+    }
+
+    CacheRegion(String name, long maxWeight, Duration ttl, ToIntFunction<V> weigher,
+                BiConsumer<K, V> removalListener, LongSupplier ticker) {
+        this.name = name;
+        this.maxWeight = maxWeight;
+        this.ttlNanos = ttl == null || ttl.isZero() || ttl.isNegative() ? Long.MAX_VALUE : ttl.toNanos();
+        this.weigher = weigher;
+        this.removalListener = removalListener;
+        this.ticker = ticker;
+    }
+
+    public static <K, V> CacheRegion<K, V> ofSize(String name, long maxSize, Duration ttl) {
+        return new CacheRegion<>(name, maxSize, ttl, value -> 1);
+    }
+
+    public Optional<V> get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        long now = ticker.getAsLong();
+        if (entry.isExpired(now)) {
+            if (entries.remove(key, entry)) {
+                removed(key, entry);
+                evictions.increment();
+            }
+            misses.increment();
+            return Optional.empty();
+        }
+        entry.lastAccess = now;
+        hits.increment();
+        return Optional.of(entry.value);
+    }
+
+    public Optional<V> peek(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null || entry.isExpired(ticker.getAsLong())) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.value);
+    }
+
+    public boolean containsKey(K key) {
+        return peek(key).isPresent();
+    }
+
+    public void put(K key, V value) {
+        int entryWeight = Math.max(weigher.applyAsInt(value), 1);
+        if (entryWeight > maxWeight) {
+            invalidate(key);
+            return;
+        }
+        long now = ticker.getAsLong();
+        long expiresAt = ttlNanos == Long.MAX_VALUE ? Long.MAX_VALUE : now + ttlNanos;
+        Entry<V> entry = new Entry<>(value, entryWeight, now, expiresAt);
+        Entry<V> previous = entries.put(key, entry);
+        weight.addAndGet(previous == null ? entryWeight : entryWeight - previous.weight);
+        if (weight.get() > maxWeight) {
+            evict();
+        }
+    }
+
+    public void invalidate(K key) {
+        Entry<V> removed = entries.remove(key);
+        if (removed != null) {
+            removed(key, removed);
+        }
+    }
+
+    public void clear() {
+        entries.keySet().forEach(this::invalidate);
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(name, hits.sum(), misses.sum(), evictions.sum(), entries.size(), weight.get());
+    }
+
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long target = maxWeight * EVICTION_HEADROOM_PERCENT / PERCENT;
+            if (weight.get() <= maxWeight) {
+                return;
+            }
+            List<Candidate<K, V>> candidates = new ArrayList<>(entries.size());
+            for (Map.Entry<K, Entry<V>> entry : entries.entrySet()) {
+                Entry<V> value = entry.getValue();
+                candidates.add(new Candidate<>(entry.getKey(), value, value.lastAccess));
+            }
+            candidates.sort(Comparator.comparingLong(Candidate::lastAccess));
+            for (Candidate<K, V> candidate : candidates) {
+                if (weight.get() <= target) {
+                    break;
+                }
+                if (entries.remove(candidate.key(), candidate.entry())) {
+                    removed(candidate.key(), candidate.entry());
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void removed(K key, Entry<V> entry) {
+        weight.addAndGet(-entry.weight);
+        removalListener.accept(key, entry.value);
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final int weight;
+        private final long expiresAt;
+        private volatile long lastAccess;
+
+        private Entry(V value, int weight, long now, long expiresAt) {
+            this.value = value;
+            this.weight = weight;
+            this.lastAccess = now;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt != Long.MAX_VALUE && now - expiresAt >= 0;
+        }
+    }
+
+    private record Candidate<K, V>(K key, Entry<V> entry, long lastAccess) {
+    }
+}
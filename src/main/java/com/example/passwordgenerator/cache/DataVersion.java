@@ -0,0 +1,67 @@
+package com.example.passwordgenerator.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class DataVersion {
+
+    private final String epoch;
+    private final AtomicLong version = new AtomicLong();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public DataVersion() {
+        this(System.currentTimeMillis());
+    }
+
+    DataVersion(long epoch) {
+        this.epoch = Long.toString(epoch, Character.MAX_RADIX);
+    }
+
+    public long current() {
+        return version.get();
+    }
+
+    public long bump() {
+        return bump(() -> { });
+    }
+
+    /**
+     * Applies the cache update of a committed write and advances the version as one step, so a loader
+     * either sees the new version or has already put the entry that the update then corrects.
+     */
+    public long bump(Runnable cacheUpdate) {
+        long bumped;
+        lock.writeLock().lock();
+        try {
+            cacheUpdate.run();
+        } finally {
+            bumped = version.incrementAndGet();
+            lock.writeLock().unlock();
+        }
+        return bumped;
+    }
+
+    /**
+     * Runs {@code put} only if no write was applied since {@code expected} was read from {@link #current()}.
+     */
+    public boolean putIfCurrent(long expected, Runnable put) {
+        lock.readLock().lock();
+        try {
+            if (version.get() != expected) {
+                return false;
+            }
+            put.run();
+            return true;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public String etag() {
+        return "W/\"" + epoch + "-" + version.get() + "\"";
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.passwordgenerator.cache;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded open-addressing table keyed by primitive {@code long}. Reads are lock-free and never box the key;
+ * writes must be serialized by the caller and touch only the affected slots. Once {@code maxEntries} is
+ * reached, an insertion ring evicts the oldest entry in constant time.
+ */
+final class LongKeyedTable<V> {
+
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+    private static final int HALF_LONG_BITS = 32;
+    // Four slots per entry keeps the load factor at or below one half.
+    private static final int SLOTS_PER_ENTRY_SHIFT = 2;
+    private static final int RING_SLOTS_PER_ENTRY = 2;
+
+    private final AtomicReferenceArray<Entry<V>> slots;
+    private final int mask;
+    private final int maxEntries;
+    private final long[] ringKeys;
+    private final long[] ringStamps;
+    private int ringHead;
+    private int ringSize;
+    private long clock;
+    private volatile int size;
+
+    LongKeyedTable(int maxEntries) {
+        this.maxEntries = Math.max(maxEntries, 1);
+        int capacity = Integer.highestOneBit(this.maxEntries) << SLOTS_PER_ENTRY_SHIFT;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.ringKeys = new long[this.maxEntries * RING_SLOTS_PER_ENTRY];
+        this.ringStamps = new long[ringKeys.length];
+    }
+
+    V get(long key) {
+        for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+            Entry<V> entry = slots.get(i);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.key() == key) {
+                return entry.value();
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Inserts or replaces {@code key}; returns {@code true} when the oldest entry was evicted to make room.
+     */
+    boolean put(long key, V value) {
+        int i = find(key);
+        boolean evicted = false;
+        if (i < 0 && size == maxEntries) {
+            evictOldest();
+            evicted = true;
+            i = find(key);
+        }
+        if (ringSize == ringKeys.length) {
+            compactRing();
+        }
+        long stamp = ++clock;
+        int tail = (ringHead + ringSize) % ringKeys.length;
+        ringKeys[tail] = key;
+        ringStamps[tail] = stamp;
+        ringSize++;
+        if (i >= 0) {
+            slots.set(i, new Entry<>(key, value, stamp));
+            return evicted;
+        }
+        slots.set(-i - 1, new Entry<>(key, value, stamp));
+        size++;
+        return evicted;
+    }
+
+    boolean remove(long key) {
+        int i = find(key);
+        if (i < 0) {
+            return false;
+        }
+        delete(i);
+        return true;
+    }
+
+    void removeAll(Collection<Long> keys) {
+        for (Long key : keys) {
+            if (key != null) {
+                remove(key);
+            }
+        }
+    }
+
+    void clear() {
+        for (int i = 0; i <= mask; i++) {
+            slots.set(i, null);
+        }
+        ringHead = 0;
+        ringSize = 0;
+        size = 0;
+    }
+
+    // Ring slots whose stamp no longer matches the table were replaced or removed and are skipped.
+    private void evictOldest() {
+        while (ringSize > 0) {
+            int i = find(ringKeys[ringHead]);
+            boolean live = isLive(i, ringStamps[ringHead]);
+            ringHead = (ringHead + 1) % ringKeys.length;
+            ringSize--;
+            if (live) {
+                delete(i);
+                return;
+            }
+        }
+    }
+
+    // With RING_SLOTS_PER_ENTRY at two, compaction runs at most once per maxEntries writes.
+    private void compactRing() {
+        int kept = 0;
+        long[] keys = new long[ringKeys.length];
+        long[] stamps = new long[ringKeys.length];
+        for (int n = 0; n < ringSize; n++) {
+            int at = (ringHead + n) % ringKeys.length;
+            if (isLive(find(ringKeys[at]), ringStamps[at])) {
+                keys[kept] = ringKeys[at];
+                stamps[kept] = ringStamps[at];
+                kept++;
+            }
+        }
+        System.arraycopy(keys, 0, ringKeys, 0, kept);
+        System.arraycopy(stamps, 0, ringStamps, 0, kept);
+        ringHead = 0;
+        ringSize = kept;
+    }
+
+    private boolean isLive(int index, long stamp) {
+        return index >= 0 && slots.get(index).stamp() == stamp;
+    }
+
+    // Returns the slot holding key, or -(free slot + 1) when the key is absent.
+    private int find(long key) {
+        for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+            Entry<V> entry = slots.get(i);
+            if (entry == null) {
+                return -i - 1;
+            }
+            if (entry.key() == key) {
+                return i;
+            }
+        }
+    }
+
+    // Backward-shift deletion keeps probe chains intact;
+    // a concurrent reader can at worst miss a moving entry.
+    private void delete(int index) {
+        int hole = index;
+        for (int i = (index + 1) & mask; ; i = (i + 1) & mask) {
+            Entry<V> entry = slots.get(i);
+            if (entry == null) {
+                break;
+            }
+            int home = slot(entry.key(), mask);
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                slots.set(hole, entry);
+                hole = i;
+            }
+        }
+        slots.set(hole, null);
+        size--;
+    }
+
+    private static int slot(long key, int mask) {
+        long h = key * GOLDEN_RATIO;
+        return (int) (h ^ (h >>> HALF_LONG_BITS)) & mask;
+    }
+
+    private record Entry<V>(long key, V value, long stamp) {
+    }
+}
@@ -1,31 +1,67 @@
 package com.example.passwordgenerator.cache;
 
 import com.example.passwordgenerator.entity.Password;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component
 public class PasswordCache {
-    private final Map<String, List<Password>> passwordsCache = new HashMap<>();
-    private final Map<Long, Password> passwordByIdCache = new HashMap<>();
-    private final Map<String, List<Password>> passwordsByTagCache = new HashMap<>();
-    private final Map<String, String> generatedPasswordsCache = new HashMap<>();
-    private final Map<String, List<String>> bulkPasswordsCache = new HashMap<>();
+    private static final String ALL_KEY = "all";
+
+    private final CacheRegion<String, AllPasswords> passwordsCache;
+    private final CacheRegion<Long, Password> passwordByIdCache;
+    private final CacheRegion<String, List<Password>> passwordsByTagCache;
+    private final CacheRegion<String, String> generatedPasswordsCache;
+    private final CacheRegion<String, List<String>> bulkPasswordsCache;
+    private final long maxAllPasswords;
+    private final Map<Long, Set<String>> tagsByPasswordId = new ConcurrentHashMap<>();
+    private final Object tagIndexLock = new Object();
+
+    public PasswordCache() {
+        this(new PasswordCacheProperties());
+    }
+
+    @Autowired
+    public PasswordCache(PasswordCacheProperties properties) {
+        maxAllPasswords = properties.getAll().getMaxWeight();
+        passwordsCache = new CacheRegion<>("all", maxAllPasswords, properties.getAll().getTtl(),
+                all -> all.byId.size());
+        passwordByIdCache = CacheRegion.ofSize("byId", properties.getById().getMaxWeight(),
+                properties.getById().getTtl());
+        passwordsByTagCache = new CacheRegion<>("byTag", properties.getByTag().getMaxWeight(),
+                properties.getByTag().getTtl(), List::size, this::unindexTag);
+        generatedPasswordsCache = CacheRegion.ofSize("generated", properties.getGenerated().getMaxWeight(),
+                properties.getGenerated().getTtl());
+        bulkPasswordsCache = listRegion("bulk", properties.getBulk());
+    }
 
     public Optional<List<Password>> getAllPasswords() {
-        return Optional.ofNullable(passwordsCache.get("all"));
+        return passwordsCache.get(ALL_KEY).map(AllPasswords::snapshot);
     }
 
     public void putAllPasswords(List<Password> passwords) {
-        passwordsCache.put("all", passwords);
+        NavigableMap<Long, Password> byId = new ConcurrentSkipListMap<>();
+        for (Password password : passwords) {
+            if (password.getId() == null) {
+                return;
+            }
+            byId.put(password.getId(), password);
+        }
+        passwordsCache.put(ALL_KEY, new AllPasswords(byId));
     }
 
     public Optional<Password> getPasswordById(Long id) {
-        return Optional.ofNullable(passwordByIdCache.get(id));
+        return passwordByIdCache.get(id);
     }
 
     public void putPasswordById(Long id, Password password) {
@@ -33,15 +69,26 @@ public class PasswordCache {
     }
 
     public Optional<List<Password>> getPasswordsByTag(String tagName) {
-        return Optional.ofNullable(passwordsByTagCache.get(tagName));
+        return passwordsByTagCache.get(tagName);
     }
 
     public void putPasswordsByTag(String tagName, List<Password> passwords) {
-        passwordsByTagCache.put(tagName, passwords);
+        synchronized (tagIndexLock) {
+            passwordsByTagCache.put(tagName, passwords);
+            if (!passwordsByTagCache.containsKey(tagName)) {
+                return;
+            }
+            for (Password password : passwords) {
+                if (password.getId() != null) {
+                    tagsByPasswordId.computeIfAbsent(password.getId(), id -> ConcurrentHashMap.newKeySet())
+                            .add(tagName);
+                }
+            }
+        }
     }
 
     public Optional<String> getGeneratedPassword(String key) {
-        return Optional.ofNullable(generatedPasswordsCache.get(key));
+        return generatedPasswordsCache.get(key);
     }
 
     public void putGeneratedPassword(String key, String password) {
@@ -49,21 +96,160 @@ public class PasswordCache {
     }
 
     public Optional<List<String>> getBulkPasswords(String key) {
-        return Optional.ofNullable(bulkPasswordsCache.get(key));
+        return bulkPasswordsCache.get(key);
     }
 
     public void putBulkPasswords(String key, List<String> passwords) {
         bulkPasswordsCache.put(key, passwords);
     }
 
+    public void refreshPassword(Password password) {
+        if (password.getId() == null) {
+            return;
+        }
+        evictPasswordEntries(password.getId());
+        passwordsCache.peek(ALL_KEY).ifPresent(all -> {
+            all.byId.put(password.getId(), password);
+            all.changed();
+            trimAllPasswords(all);
+        });
+    }
+
+    /**
+     * Swaps the cached row for {@code id} with a copy freshly read from the database, or drops it when
+     * the row is gone.
+     */
+    public void replacePassword(Long id, Optional<Password> current) {
+        evictPasswordEntries(id);
+        passwordsCache.peek(ALL_KEY).ifPresent(all -> {
+            current.ifPresentOrElse(password -> all.byId.put(id, password), () -> all.byId.remove(id));
+            all.changed();
+        });
+    }
+
+    public void refreshPasswords(List<Password> passwords) {
+        List<Password> persisted = passwords.stream()
+                .filter(password -> password.getId() != null)
+                .toList();
+        persisted.forEach(password -> evictPasswordEntries(password.getId()));
+        passwordsCache.peek(ALL_KEY).ifPresent(all -> {
+            persisted.forEach(password -> all.byId.put(password.getId(), password));
+            all.changed();
+            trimAllPasswords(all);
+        });
+    }
+
+    public void evictPassword(Long id) {
+        evictPasswordEntries(id);
+        passwordsCache.peek(ALL_KEY).ifPresent(all -> {
+            all.byId.remove(id);
+            all.changed();
+        });
+    }
+
+    public void evictPasswordsByTag(String tagName) {
+        synchronized (tagIndexLock) {
+            passwordsByTagCache.invalidate(tagName);
+        }
+    }
+
+    public void evictTagAssignments(Collection<String> tagNames, Collection<Long> passwordIds) {
+        passwordIds.forEach(this::evictPasswordEntries);
+        synchronized (tagIndexLock) {
+            tagNames.forEach(passwordsByTagCache::invalidate);
+        }
+        passwordsCache.peek(ALL_KEY).ifPresent(all -> {
+            if (passwordIds.stream().anyMatch(all.byId::containsKey)) {
+                passwordsCache.invalidate(ALL_KEY);
+            }
+        });
+    }
+
     public void clearDatabaseCache() {
         passwordsCache.clear();
         passwordByIdCache.clear();
-        passwordsByTagCache.clear();
+        synchronized (tagIndexLock) {
+            passwordsByTagCache.clear();
+            tagsByPasswordId.clear();
+        }
     }
 
     public void clearGeneratedCache() {
         generatedPasswordsCache.clear();
         bulkPasswordsCache.clear();
     }
-}
\ No newline at end of file
+
+    public List<CacheStats> getStatistics() {
+        return List.of(passwordsCache.stats(), passwordByIdCache.stats(), passwordsByTagCache.stats(),
+                generatedPasswordsCache.stats(), bulkPasswordsCache.stats());
+    }
+
+    private void evictPasswordEntries(Long id) {
+        passwordByIdCache.invalidate(id);
+        synchronized (tagIndexLock) {
+            Set<String> tagNames = tagsByPasswordId.remove(id);
+            if (tagNames != null) {
+                tagNames.forEach(passwordsByTagCache::invalidate);
+            }
+        }
+    }
+
+    private void unindexTag(String tagName, List<Password> passwords) {
+        synchronized (tagIndexLock) {
+            if (passwordsByTagCache.containsKey(tagName)) {
+                return;
+            }
+            for (Password password : passwords) {
+                if (password.getId() != null) {
+                    tagsByPasswordId.computeIfPresent(password.getId(), (id, tagNames) -> {
+                        tagNames.remove(tagName);
+                        return tagNames.isEmpty() ? null : tagNames;
+                    });
+                }
+            }
+        }
+    }
+
+    private void trimAllPasswords(AllPasswords all) {
+        if (all.byId.size() > maxAllPasswords) {
+            passwordsCache.invalidate(ALL_KEY);
+        }
+    }
+
+    private static <K, T> CacheRegion<K, List<T>> listRegion(String name,
+                                                             PasswordCacheProperties.Region region) {
+        return new CacheRegion<>(name, region.getMaxWeight(), region.getTtl(), List::size);
+    }
+
+    /**
+     * Keeps the "all" entry editable by id while handing readers an immutable list that is rebuilt
+     * at most once per change instead of on every hit.
+     */
+    private static final class AllPasswords {
+        private final NavigableMap<Long, Password> byId;
+        private final AtomicLong version = new AtomicLong();
+        private volatile Snapshot snapshot;
+
+        private AllPasswords(NavigableMap<Long, Password> byId) {
+            this.byId = byId;
+        }
+
+        private void changed() {
+            version.incrementAndGet();
+        }
+
+        private List<Password> snapshot() {
+            long current = version.get();
+            Snapshot cached = snapshot;
+            if (cached != null && cached.version() == current) {
+                return cached.passwords();
+            }
+            List<Password> passwords = List.copyOf(byId.values());
+            snapshot = new Snapshot(current, passwords);
+            return passwords;
+        }
+    }
+
+    private record Snapshot(long version, List<Password> passwords) {
+    }
+}
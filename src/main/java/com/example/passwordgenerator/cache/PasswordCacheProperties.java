@@ -0,0 +1,90 @@
+package com.example.passwordgenerator.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "password.cache")
+public class PasswordCacheProperties {
+
+    private static final long LIST_MAX_WEIGHT = 100_000;
+    private static final long ENTRY_MAX_WEIGHT = 10_000;
+    private static final Duration ALL_TTL = Duration.ofMinutes(5);
+    private static final Duration BY_ID_TTL = Duration.ofMinutes(30);
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+
+    private Region all = new Region(LIST_MAX_WEIGHT, ALL_TTL);
+    private Region byId = new Region(ENTRY_MAX_WEIGHT, BY_ID_TTL);
+    private Region byTag = new Region(LIST_MAX_WEIGHT, DEFAULT_TTL);
+    private Region generated = new Region(ENTRY_MAX_WEIGHT, DEFAULT_TTL);
+    private Region bulk = new Region(LIST_MAX_WEIGHT, DEFAULT_TTL);
+
+    public Region getAll() {
+        return all;
+    }
+
+    public void setAll(Region all) {
+        this.all = all;
+    }
+
+    public Region getById() {
+        return byId;
+    }
+
+    public void setById(Region byId) {
+        this.byId = byId;
+    }
+
+    public Region getByTag() {
+        return byTag;
+    }
+
+    public void setByTag(Region byTag) {
+        this.byTag = byTag;
+    }
+
+    public Region getGenerated() {
+        return generated;
+    }
+
+    public void setGenerated(Region generated) {
+        this.generated = generated;
+    }
+
+    public Region getBulk() {
+        return bulk;
+    }
+
+    public void setBulk(Region bulk) {
+        this.bulk = bulk;
+    }
+
+    public static class Region {
+        private long maxWeight;
+        private Duration ttl;
+
+        public Region() {
+        }
+
+        public Region(long maxWeight, Duration ttl) {
+            this.maxWeight = maxWeight;
+            this.ttl = ttl;
+        }
+
+        public long getMaxWeight() {
+            return maxWeight;
+        }
+
+        public void setMaxWeight(long maxWeight) {
+            this.maxWeight = maxWeight;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+    }
+}
@@ -1,34 +1,231 @@
 package com.example.passwordgenerator.cache;
 
+import com.example.passwordgenerator.dto.TagSummary;
 import com.example.passwordgenerator.entity.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 
 @Component
 public class TagCache {
-    private final Map<String, Object> cache = new HashMap<>();
+    static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    private final int maxEntries;
+    private final Object writeLock = new Object();
+    private final LongKeyedTable<Tag> tagsById;
+    private volatile List<Tag> allTags;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private final boolean caseInsensitive;
+    private final Map<String, Set<Long>> idsByName = new HashMap<>();
+    private final Map<Long, String> nameKeysById = new HashMap<>();
+    private final Object nameIndexLock = new Object();
+    private boolean nameIndexLoaded;
+    private long nameIndexVersion;
+
+    public TagCache() {
+        this(false);
+    }
+
+    public TagCache(boolean caseInsensitive) {
+        this(caseInsensitive, DEFAULT_MAX_ENTRIES);
+    }
+
+    @Autowired
+    public TagCache(@Value("${password.tags.case-insensitive:false}") boolean caseInsensitive,
+                    @Value("${password.tags.max-entries:10000}") int maxEntries) {
+        this.caseInsensitive = caseInsensitive;
+        this.maxEntries = Math.max(maxEntries, 1);
+        this.tagsById = new LongKeyedTable<>(this.maxEntries);
+    }
 
     public Optional<List<Tag>> getAllTags() {
-        return Optional.ofNullable((List<Tag>) cache.get("allTags"));
+        return record(Optional.ofNullable(allTags));
     }
 
     public void putAllTags(List<Tag> tags) {
-        cache.put("allTags", tags);
+        if (tags.size() > maxEntries) {
+            return;
+        }
+        synchronized (writeLock) {
+            allTags = List.copyOf(tags);
+        }
+    }
+
+    public Optional<Tag> getTagById(long id) {
+        return record(Optional.ofNullable(tagsById.get(id)));
+    }
+
+    public List<Tag> getTagsByIds(Collection<Long> ids) {
+        List<Tag> found = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Tag tag = tagsById.get(id);
+            if (tag != null) {
+                found.add(tag);
+            }
+        }
+        hits.add(found.size());
+        misses.add(ids.size() - found.size());
+        return found;
+    }
+
+    public void putTagById(long id, Tag tag) {
+        putTagsById(List.of(tag), new long[]{id});
+    }
+
+    public void putTags(List<Tag> tags) {
+        long[] ids = new long[tags.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = tags.get(i).getId();
+        }
+        putTagsById(tags, ids);
+    }
+
+    public String nameKey(String name) {
+        return caseInsensitive && name != null ? name.toLowerCase(Locale.ROOT) : name;
     }
 
-    public Optional<Tag> getTagById(Long id) {
-        return Optional.ofNullable((Tag) cache.get("tag_" + id));
+    public Optional<Set<Long>> findTagIds(String name) {
+        synchronized (nameIndexLock) {
+            if (!nameIndexLoaded) {
+                return Optional.empty();
+            }
+            Set<Long> ids = idsByName.get(nameKey(name));
+            return Optional.of(ids == null ? Set.of() : Set.copyOf(ids));
+        }
     }
 
-    public void putTagById(Long id, Tag tag) {
-        cache.put("tag_" + id, tag);
+    public long nameIndexVersion() {
+        synchronized (nameIndexLock) {
+            return nameIndexVersion;
+        }
+    }
+
+    public boolean loadNameIndex(List<TagSummary> tags, long expectedVersion) {
+        synchronized (nameIndexLock) {
+            if (nameIndexVersion != expectedVersion) {
+                return false;
+            }
+            idsByName.clear();
+            nameKeysById.clear();
+            tags.forEach(tag -> index(tag.id(), tag.name()));
+            nameIndexLoaded = true;
+            return true;
+        }
+    }
+
+    public void refreshTag(Tag tag) {
+        synchronized (nameIndexLock) {
+            unindex(tag.getId());
+            index(tag.getId(), tag.getName());
+            nameIndexVersion++;
+        }
+        synchronized (writeLock) {
+            tagsById.remove(tag.getId());
+            List<Tag> tags = allTags;
+            if (tags != null) {
+                List<Tag> updated = new ArrayList<>(tags.size() + 1);
+                for (Tag cached : tags) {
+                    if (!Objects.equals(cached.getId(), tag.getId())) {
+                        updated.add(cached);
+                    }
+                }
+                updated.add(tag);
+                allTags = updated.size() > maxEntries ? null : List.copyOf(updated);
+            }
+        }
+    }
+
+    public void evictTag(Long id) {
+        synchronized (nameIndexLock) {
+            unindex(id);
+            nameIndexVersion++;
+        }
+        synchronized (writeLock) {
+            tagsById.remove(id);
+            List<Tag> tags = allTags;
+            if (tags != null) {
+                allTags = tags.stream()
+                        .filter(cached -> !Objects.equals(cached.getId(), id))
+                        .toList();
+            }
+        }
+    }
+
+    public void invalidateTags(Collection<Long> ids) {
+        synchronized (writeLock) {
+            tagsById.removeAll(ids);
+            List<Tag> tags = allTags;
+            if (tags != null && tags.stream().anyMatch(tag -> ids.contains(tag.getId()))) {
+                allTags = null;
+            }
+        }
     }
 
     public void clearCache() {
-        cache.clear();
+        synchronized (writeLock) {
+            tagsById.clear();
+            allTags = null;
+        }
+        synchronized (nameIndexLock) {
+            idsByName.clear();
+            nameKeysById.clear();
+            nameIndexLoaded = false;
+            nameIndexVersion++;
+        }
+    }
+
+    public CacheStats stats() {
+        List<Tag> tags = allTags;
+        int size = tagsById.size() + (tags == null ? 0 : 1);
+        long weight = tagsById.size() + (tags == null ? 0 : tags.size());
+        return new CacheStats("tags", hits.sum(), misses.sum(), evictions.sum(), size, weight);
+    }
+
+    private void putTagsById(List<Tag> tags, long[] ids) {
+        synchronized (writeLock) {
+            for (int i = 0; i < ids.length; i++) {
+                if (tagsById.put(ids[i], tags.get(i))) {
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    private void index(Long id, String name) {
+        String key = nameKey(name);
+        idsByName.computeIfAbsent(key, k -> new HashSet<>()).add(id);
+        nameKeysById.put(id, key);
+    }
+
+    private void unindex(Long id) {
+        String key = nameKeysById.remove(id);
+        if (key == null) {
+            return;
+        }
+        Set<Long> ids = idsByName.get(key);
+        ids.remove(id);
+        if (ids.isEmpty()) {
+            idsByName.remove(key);
+        }
+    }
+
+    private <T> Optional<T> record(Optional<T> value) {
+        (value.isPresent() ? hits : misses).increment();
+        return value;
     }
 }
\ No newline at end of file
@@ -1,14 +1,24 @@
 package com.example.passwordgenerator.config;
 
+import com.example.passwordgenerator.hashing.HashingCalibrator;
+import com.example.passwordgenerator.hashing.HashingStrategies;
+import com.example.passwordgenerator.hashing.HashingStrategyProperties;
+import com.example.passwordgenerator.hashing.StrategyPasswordEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
 @Configuration
+@EnableConfigurationProperties(HashingStrategyProperties.class)
 public class SecurityConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(SecurityConfig.class);
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -21,6 +31,11 @@ public class SecurityConfig {
                                 "/api/passwords/**",
                                 "/api/tags/**",
                                 "/api/counter/**",
+                                "/api/cache/**",
+                                "/actuator/health",
+                                "/actuator/health/liveness",
+                                "/actuator/health/readiness",
+                                "/actuator/prometheus",
                                 "/api/passwords/generate"
                         ).permitAll()
                         .anyRequest().authenticated()
@@ -32,7 +47,18 @@ public class SecurityConfig {
     }
 
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(HashingStrategyProperties properties) {
+        String algorithm = properties.getAlgorithm();
+        boolean calibrated = properties.getCost() <= 0;
+        int cost = calibrated
+                ? new HashingCalibrator(properties).calibrate(algorithm, properties.getTargetTime())
+                : properties.getCost();
+        if (cost < properties.floor(algorithm)) {
+            logger.warn("Цена хеширования {} для {} ниже рекомендуемого минимума {}",
+                    cost, algorithm, properties.floor(algorithm));
+        }
+        logger.info("Хеширование паролей: {}, цена {} ({})", algorithm, cost,
+                calibrated ? "калибровка" : "конфигурация");
+        return new StrategyPasswordEncoder(HashingStrategies.create(algorithm, cost, properties), properties);
     }
 }
\ No newline at end of file
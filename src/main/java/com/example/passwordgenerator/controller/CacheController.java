@@ -0,0 +1,25 @@
+package com.example.passwordgenerator.controller;
+
+import com.example.passwordgenerator.cache.CacheStats;
+import com.example.passwordgenerator.cache.PasswordCache;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/cache")
+public class CacheController {
+
+    private final PasswordCache passwordCache;
+
+    public CacheController(PasswordCache passwordCache) {
+        this.passwordCache = passwordCache;
+    }
+
+    @GetMapping("/stats")
+    public List<CacheStats> getStatistics() {
+        return passwordCache.getStatistics();
+    }
+}
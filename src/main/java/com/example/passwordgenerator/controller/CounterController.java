@@ -1,5 +1,6 @@
 package com.example.passwordgenerator.controller;
 
+import com.example.passwordgenerator.counter.CounterSnapshot;
 import com.example.passwordgenerator.service.CounterService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -20,6 +21,11 @@ public class CounterController {
         return ResponseEntity.ok(count);
     }
 
+    @GetMapping("/snapshot")
+    public ResponseEntity<CounterSnapshot> getSnapshot() {
+        return ResponseEntity.ok(counterService.getSnapshot());
+    }
+
     @PostMapping("/reset")
     public ResponseEntity<Void> resetCount() {
         counterService.resetRequestCount();
@@ -0,0 +1,168 @@
+package com.example.passwordgenerator.controller;
+
+import com.example.passwordgenerator.dto.PasswordGenerationRequest;
+import com.example.passwordgenerator.service.BulkGenerationStreamService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Incremental JSON plumbing for the streaming endpoints: request arrays are read element by element
+ * and responses are written straight to the output stream.
+ */
+@Component
+class JsonStreaming {
+
+    private static final Logger logger = LoggerFactory.getLogger(JsonStreaming.class);
+    private static final int NDJSON_FLUSH_INTERVAL = 256;
+
+    private final ObjectMapper objectMapper;
+    private final BulkGenerationStreamService bulkGenerationStreamService;
+
+    JsonStreaming(ObjectMapper objectMapper, BulkGenerationStreamService bulkGenerationStreamService) {
+        this.objectMapper = objectMapper;
+        this.bulkGenerationStreamService = bulkGenerationStreamService;
+    }
+
+    /**
+     * Reads a JSON array of generation requests lazily and writes each generated password as an NDJSON
+     * line. The opening bracket is checked up front so a malformed body is rejected before the response
+     * starts.
+     */
+    StreamingResponseBody generateBulk(InputStream requestBody) {
+        JsonParser parser = openArray(requestBody);
+        return outputStream -> {
+            try (parser; JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                AtomicInteger lines = new AtomicInteger();
+                try {
+                    RequestIterator requests = new RequestIterator(parser, objectMapper);
+                    bulkGenerationStreamService.generate(requests, password -> {
+                        writeLine(generator, password);
+                        if (lines.incrementAndGet() % NDJSON_FLUSH_INTERVAL == 0) {
+                            flush(generator);
+                        }
+                    });
+                } catch (IllegalArgumentException e) {
+                    writeError(generator, e.getMessage());
+                } catch (RuntimeException e) {
+                    // Lines already sent may belong to chunks that were never stored; tell the client so.
+                    logger.error("Потоковая генерация паролей прервана", e);
+                    writeError(generator, "Генерация прервана: пароли из этого ответа могли не сохраниться.");
+                }
+            }
+        };
+    }
+
+    <T> StreamingResponseBody array(Class<T> type, Consumer<Consumer<T>> source) {
+        ObjectWriter writer = objectMapper.writerFor(type)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                source.accept(value -> writeValue(writer, generator, value));
+                generator.writeEndArray();
+            }
+        };
+    }
+
+    private JsonParser openArray(InputStream requestBody) {
+        try {
+            JsonParser parser = objectMapper.getFactory().createParser(requestBody);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                parser.close();
+                throw new IllegalArgumentException("Ожидается JSON-массив запросов.");
+            }
+            return parser;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeError(JsonGenerator generator, String message) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("error", message);
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private static void writeLine(JsonGenerator generator, String password) {
+        try {
+            generator.writeString(password);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void flush(JsonGenerator generator) {
+        try {
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeValue(ObjectWriter writer, JsonGenerator generator, Object value) {
+        try {
+            writer.writeValue(generator, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class RequestIterator implements Iterator<PasswordGenerationRequest> {
+        private final JsonParser parser;
+        private final ObjectMapper objectMapper;
+        private JsonToken nextToken;
+
+        private RequestIterator(JsonParser parser, ObjectMapper objectMapper) {
+            this.parser = parser;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextToken == null) {
+                try {
+                    nextToken = parser.nextToken();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return nextToken != null && nextToken != JsonToken.END_ARRAY;
+        }
+
+        @Override
+        public PasswordGenerationRequest next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            JsonToken token = nextToken;
+            nextToken = null;
+            if (token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            try {
+                return objectMapper.readValue(parser, PasswordGenerationRequest.class);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
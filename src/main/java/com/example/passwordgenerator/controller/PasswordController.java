@@ -1,26 +1,40 @@
 package com.example.passwordgenerator.controller;
 
+import com.example.passwordgenerator.cache.DataVersion;
 import com.example.passwordgenerator.dto.PasswordGenerationRequest;
+import com.example.passwordgenerator.dto.PasswordPage;
+import com.example.passwordgenerator.dto.PasswordSummary;
 import com.example.passwordgenerator.entity.Password;
 import com.example.passwordgenerator.service.PasswordService;
+import com.example.passwordgenerator.service.PasswordWriteBehindService;
 import jakarta.validation.Valid;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/passwords")
 public class PasswordController {
 
-    private static final Logger logger = LoggerFactory.getLogger(PasswordController.class);
     private final PasswordService passwordService;
+    private final PasswordWriteBehindService writeBehindService;
+    private final DataVersion dataVersion;
+    private final JsonStreaming jsonStreaming;
 
-    public PasswordController(PasswordService passwordService) {
+    public PasswordController(PasswordService passwordService,
+                              PasswordWriteBehindService writeBehindService,
+                              DataVersion dataVersion,
+                              JsonStreaming jsonStreaming) {
         this.passwordService = passwordService;
+        this.writeBehindService = writeBehindService;
+        this.dataVersion = dataVersion;
+        this.jsonStreaming = jsonStreaming;
     }
 
     @GetMapping(value = "/generate", produces = MediaType.TEXT_PLAIN_VALUE + ";charset=UTF-8")
@@ -30,28 +44,67 @@ public class PasswordController {
             @RequestParam String owner) {
         String password = passwordService.generatePassword(length, complexity, owner);
         Password passwordEntity = new Password(password, owner);
-        passwordService.create(passwordEntity);
+        writeBehindService.persist(passwordEntity);
         return ResponseEntity.ok("✅ Пароль для " + owner + ": " + password);
     }
 
-    @PostMapping(value = "/generate-bulk", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<String>> generatePasswordsBulk(@RequestBody List<PasswordGenerationRequest> requests) {
-        logger.debug("Received requests: {}", requests);
-        List<String> passwords = passwordService.generatePasswordsBulk(requests);
-        logger.debug("Returning passwords: {}", passwords);
-        return ResponseEntity.ok(passwords);
+    @PostMapping(value = "/generate-bulk",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<List<String>> generatePasswordsBulk(
+            @RequestBody List<PasswordGenerationRequest> requests) {
+        return ResponseEntity.ok(passwordService.generatePasswordsBulk(requests));
     }
 
-    @GetMapping
-    public List<Password> getAll() {
+    @PostMapping(value = "/generate-bulk/stream", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> generatePasswordsBulkStream(InputStream requestBody) {
+        StreamingResponseBody body = jsonStreaming.generateBulk(requestBody);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public List<Password> getAll(WebRequest request) {
+        if (request.checkNotModified(dataVersion.etag())) {
+            return null;
+        }
         return passwordService.findAll();
     }
 
+    @GetMapping(params = "limit")
+    public PasswordPage getPage(@RequestParam(defaultValue = "0") long after, @RequestParam int limit,
+                                WebRequest request) {
+        if (request.checkNotModified(dataVersion.etag())) {
+            return null;
+        }
+        return passwordService.findPage(after, limit);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        StreamingResponseBody body = jsonStreaming.array(PasswordSummary.class, passwordService::streamAll);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    @GetMapping("/summaries")
+    public List<PasswordSummary> getSummaries(WebRequest request) {
+        if (request.checkNotModified(dataVersion.etag())) {
+            return null;
+        }
+        return passwordService.findSummaries();
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<Password> getById(@PathVariable Long id) {
-        return passwordService.findById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<Password> getById(@PathVariable Long id, WebRequest request) {
+        // The ETag is one global version, so a missing row must answer 404 before it is compared.
+        String etag = dataVersion.etag();
+        Optional<Password> found = passwordService.findById(id);
+        if (found.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok(found.get());
     }
 
     @PostMapping
@@ -72,8 +125,12 @@ public class PasswordController {
         return ResponseEntity.noContent().build();
     }
 
-    @GetMapping("/by-tag")
-    public List<Password> getPasswordsByTagName(@RequestParam String tagName) {
+    @GetMapping(value = "/by-tag",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public List<Password> getPasswordsByTagName(@RequestParam String tagName, WebRequest request) {
+        if (request.checkNotModified(dataVersion.etag())) {
+            return null;
+        }
         return passwordService.findPasswordsByTagName(tagName);
     }
-}
\ No newline at end of file
+}
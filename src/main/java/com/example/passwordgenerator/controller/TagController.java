@@ -1,32 +1,69 @@
 package com.example.passwordgenerator.controller;
 
+import com.example.passwordgenerator.cache.DataVersion;
+import com.example.passwordgenerator.dto.TagAssignmentRequest;
+import com.example.passwordgenerator.dto.TagAssignmentResult;
+import com.example.passwordgenerator.dto.TagSummary;
 import com.example.passwordgenerator.entity.Tag;
 import com.example.passwordgenerator.service.TagService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/tags")
 public class TagController {
 
     private final TagService tagService;
+    private final DataVersion dataVersion;
 
-    public TagController(TagService tagService) {
+    public TagController(TagService tagService, DataVersion dataVersion) {
         this.tagService = tagService;
+        this.dataVersion = dataVersion;
     }
 
-    @GetMapping
-    public List<Tag> getAll() {
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public List<Tag> getAll(WebRequest request) {
+        if (request.checkNotModified(dataVersion.etag())) {
+            return null;
+        }
         return tagService.findAll();
     }
 
+    @GetMapping("/summaries")
+    public List<TagSummary> getSummaries(WebRequest request) {
+        if (request.checkNotModified(dataVersion.etag())) {
+            return null;
+        }
+        return tagService.findSummaries();
+    }
+
+    @PostMapping("/assignments")
+    public TagAssignmentResult attachPasswords(@RequestBody TagAssignmentRequest request) {
+        return tagService.attachPasswords(request);
+    }
+
+    @DeleteMapping("/assignments")
+    public TagAssignmentResult detachPasswords(@RequestBody TagAssignmentRequest request) {
+        return tagService.detachPasswords(request);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<Tag> getById(@PathVariable Long id) {
-        return tagService.findById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<Tag> getById(@PathVariable Long id, WebRequest request) {
+        // The ETag is one global version, so a missing row must answer 404 before it is compared.
+        String etag = dataVersion.etag();
+        Optional<Tag> found = tagService.findById(id);
+        if (found.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok(found.get());
     }
 
     @PostMapping
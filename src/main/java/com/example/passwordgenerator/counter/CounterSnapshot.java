@@ -0,0 +1,9 @@
+package com.example.passwordgenerator.counter;
+
+import java.util.Map;
+
+public record CounterSnapshot(long total,
+                              Map<String, Long> byOperation,
+                              Map<String, Long> byComplexity,
+                              Map<String, Long> byOutcome) {
+}
@@ -1,24 +1,95 @@
 package com.example.passwordgenerator.counter;
 
 import org.springframework.stereotype.Component;
-import java.util.concurrent.atomic.AtomicLong;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 @Component
 public class RequestCounter implements RequestCounterInterface {
-    private final AtomicLong counter = new AtomicLong(0);
+    private static final int COMPLEXITY_BUCKETS = 4;
+    private static final String OTHER_COMPLEXITY = "other";
+
+    private final LongAdder counter = new LongAdder();
+    private final LongAdder[][][] dimensions =
+            new LongAdder[Operation.values().length][COMPLEXITY_BUCKETS][Outcome.values().length];
+
+    public RequestCounter() {
+        for (LongAdder[][] byComplexity : dimensions) {
+            for (LongAdder[] byOutcome : byComplexity) {
+                for (int i = 0; i < byOutcome.length; i++) {
+                    byOutcome[i] = new LongAdder();
+                }
+            }
+        }
+    }
 
     @Override
     public long increment() {
-        return counter.incrementAndGet();
+        counter.increment();
+        return counter.sum();
+    }
+
+    @Override
+    public void add(long count) {
+        counter.add(count);
+    }
+
+    @Override
+    public void record(Operation operation, int complexity, Outcome outcome, long count) {
+        if (count == 0) {
+            return;
+        }
+        dimensions[operation.ordinal()][complexityBucket(complexity)][outcome.ordinal()].add(count);
+        counter.add(count);
     }
 
     @Override
     public long getCount() {
-        return counter.get();
+        return counter.sum();
     }
 
     @Override
     public void reset() {
-        counter.set(0);
+        counter.reset();
+        for (LongAdder[][] byComplexity : dimensions) {
+            for (LongAdder[] byOutcome : byComplexity) {
+                for (LongAdder adder : byOutcome) {
+                    adder.reset();
+                }
+            }
+        }
+    }
+
+    @Override
+    public CounterSnapshot snapshot() {
+        Map<String, Long> byOperation = new LinkedHashMap<>();
+        Map<String, Long> byComplexity = new LinkedHashMap<>();
+        Map<String, Long> byOutcome = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            for (int bucket = 0; bucket < COMPLEXITY_BUCKETS; bucket++) {
+                for (Outcome outcome : Outcome.values()) {
+                    long value = dimensions[operation.ordinal()][bucket][outcome.ordinal()].sum();
+                    byOperation.merge(label(operation), value, Long::sum);
+                    byComplexity.merge(complexityLabel(bucket), value, Long::sum);
+                    byOutcome.merge(label(outcome), value, Long::sum);
+                }
+            }
+        }
+        return new CounterSnapshot(counter.sum(), byOperation, byComplexity, byOutcome);
+    }
+
+    private static int complexityBucket(int complexity) {
+        return complexity >= 1 && complexity < COMPLEXITY_BUCKETS ? complexity : 0;
+    }
+
+    private static String complexityLabel(int bucket) {
+        return bucket == 0 ? OTHER_COMPLEXITY : String.valueOf(bucket);
+    }
+
+    private static String label(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
     }
 }
@@ -4,4 +4,18 @@ public interface RequestCounterInterface {
     long increment();
     long getCount();
     void reset();
+
+    void add(long count);
+
+    void record(Operation operation, int complexity, Outcome outcome, long count);
+
+    CounterSnapshot snapshot();
+
+    enum Operation {
+        SINGLE, BULK
+    }
+
+    enum Outcome {
+        SUCCESS, FAILURE
+    }
 }
@@ -0,0 +1,8 @@
+package com.example.passwordgenerator.dto;
+
+import com.example.passwordgenerator.entity.Password;
+
+import java.util.List;
+
+public record PasswordPage(List<Password> items, Long nextAfter) {
+}
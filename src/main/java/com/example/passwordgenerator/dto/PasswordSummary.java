@@ -0,0 +1,4 @@
+package com.example.passwordgenerator.dto;
+
+public record PasswordSummary(Long id, String password, String owner) {
+}
@@ -0,0 +1,6 @@
+package com.example.passwordgenerator.dto;
+
+import java.util.Set;
+
+public record TagAssignmentRequest(Set<Long> tagIds, Set<Long> passwordIds) {
+}
@@ -0,0 +1,4 @@
+package com.example.passwordgenerator.dto;
+
+public record TagSummary(Long id, String name) {
+}
@@ -1,5 +1,6 @@
 package com.example.passwordgenerator.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import java.util.HashSet;
@@ -8,8 +9,12 @@ import java.util.Set;
 @Entity
 @Table(name = "passwords")
 public class Password {
+    private static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "passwords_seq")
+    @SequenceGenerator(name = "passwords_seq", sequenceName = "passwords_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @NotNull(message = "Password cannot be null")
@@ -21,6 +26,7 @@ public class Password {
     private String owner;
 
     @ManyToMany(mappedBy = "passwordEntries")
+    @JsonIgnoreProperties("passwordEntries")
     private Set<Tag> tags = new HashSet<>();
 
     public Password() {
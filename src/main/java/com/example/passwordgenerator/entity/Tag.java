@@ -1,5 +1,6 @@
 package com.example.passwordgenerator.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import java.util.HashSet;
 import java.util.Set;
@@ -7,8 +8,12 @@ import java.util.Set;
 @Entity
 @Table(name = "tags")
 public class Tag {
+    private static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tags_seq")
+    @SequenceGenerator(name = "tags_seq", sequenceName = "tags_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     private String name;
@@ -19,6 +24,7 @@ public class Tag {
             joinColumns = @JoinColumn(name = "tag_id"),
             inverseJoinColumns = @JoinColumn(name = "password_id")
     )
+    @JsonIgnoreProperties("tags")
     private Set<Password> passwordEntries = new HashSet<>();
 
     public Tag() {
@@ -0,0 +1,209 @@
+package com.example.passwordgenerator.generator;
+
+import com.example.passwordgenerator.concurrent.VirtualThreads;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+@Component
+public class PasswordGenerator {
+
+    public static final int MIN_LENGTH = 4;
+    public static final int MAX_LENGTH = 30;
+    public static final int MIN_COMPLEXITY = 1;
+    public static final int MAX_COMPLEXITY = 3;
+
+    static final char[] NUMBERS = "0123456789".toCharArray();
+    static final char[] LETTERS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+    static final char[] SYMBOLS = "!@#$%^&*()_-+=<>?/{}[]|".toCharArray();
+
+    private static final char[][] GUARANTEED = {NUMBERS, LETTERS, SYMBOLS};
+    private static final char[][] ALPHABETS = {
+            NUMBERS,
+            concat(NUMBERS, LETTERS),
+            concat(concat(NUMBERS, LETTERS), SYMBOLS)
+    };
+
+    private static final int MAX_BATCH_ENTROPY_BYTES = 65_536;
+    // Uniform sampling rejects under 4% of bytes for every alphabet and shuffle bound, so twice the character
+    // count covers a batch without a second DRBG call in practice.
+    private static final int BATCH_ENTROPY_BYTES_PER_CHAR = 2;
+
+    private final long reseedInterval;
+    private final ThreadLocal<GeneratorState> state;
+    // Virtual threads are created per request, so they borrow pooled states instead of seeding a DRBG each.
+    private final ConcurrentLinkedQueue<GeneratorState> sharedStates = new ConcurrentLinkedQueue<>();
+
+    public PasswordGenerator(@Value("${password.generator.reseed-interval:65536}") long reseedInterval) {
+        this.reseedInterval = reseedInterval;
+        this.state = ThreadLocal.withInitial(() -> new GeneratorState(newDrbg()));
+    }
+
+    public String generate(int length, int complexity) {
+        if (!VirtualThreads.isVirtual(Thread.currentThread())) {
+            return generate(state.get(), length, complexity);
+        }
+        GeneratorState borrowed = borrowState();
+        try {
+            return generate(borrowed, length, complexity);
+        } finally {
+            sharedStates.offer(borrowed);
+        }
+    }
+
+    /**
+     * Generates one password per item into a single char slab, drawing randomness for the whole batch
+     * from one DRBG buffer. Items must already be validated.
+     */
+    public List<String> generateBatch(int[] lengths, int[] complexities) {
+        if (!VirtualThreads.isVirtual(Thread.currentThread())) {
+            return generateBatch(state.get(), lengths, complexities);
+        }
+        GeneratorState borrowed = borrowState();
+        try {
+            return generateBatch(borrowed, lengths, complexities);
+        } finally {
+            sharedStates.offer(borrowed);
+        }
+    }
+
+    private GeneratorState borrowState() {
+        GeneratorState borrowed = sharedStates.poll();
+        return borrowed != null ? borrowed : new GeneratorState(newDrbg());
+    }
+
+    private String generate(GeneratorState current, int length, int complexity) {
+        current.countUses(1, reseedInterval);
+        fill(current.buffer, 0, length, complexity, current.entropy);
+        return new String(current.buffer, 0, length);
+    }
+
+    private List<String> generateBatch(GeneratorState current, int[] lengths, int[] complexities) {
+        int total = 0;
+        for (int length : lengths) {
+            total += length;
+        }
+        current.countUses(lengths.length, reseedInterval);
+        EntropyBuffer entropy = new EntropyBuffer(current.random,
+                (int) Math.min((long) total * BATCH_ENTROPY_BYTES_PER_CHAR + 1, MAX_BATCH_ENTROPY_BYTES));
+        char[] slab = new char[total];
+        int offset = 0;
+        for (int i = 0; i < lengths.length; i++) {
+            fill(slab, offset, lengths[i], complexities[i], entropy);
+            offset += lengths[i];
+        }
+
+        String[] passwords = new String[lengths.length];
+        offset = 0;
+        for (int i = 0; i < lengths.length; i++) {
+            passwords[i] = new String(slab, offset, lengths[i]);
+            offset += lengths[i];
+        }
+        return List.of(passwords);
+    }
+
+    private static void fill(char[] target, int offset, int length, int complexity, EntropyBuffer entropy) {
+        char[] characters = alphabet(complexity);
+
+        int guaranteedChars = Math.min(complexity, length);
+        for (int i = 0; i < guaranteedChars; i++) {
+            char[] group = GUARANTEED[i];
+            target[offset + i] = group[entropy.nextIndex(group.length)];
+        }
+        for (int i = guaranteedChars; i < length; i++) {
+            target[offset + i] = characters[entropy.nextIndex(characters.length)];
+        }
+        for (int i = length - 1; i > 0; i--) {
+            int j = entropy.nextIndex(i + 1);
+            char temp = target[offset + i];
+            target[offset + i] = target[offset + j];
+            target[offset + j] = temp;
+        }
+    }
+
+    static char[] alphabet(int complexity) {
+        return ALPHABETS[complexity - 1];
+    }
+
+    static SecureRandom newDrbg() {
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom();
+        }
+    }
+
+    private static char[] concat(char[] first, char[] second) {
+        char[] result = new char[first.length + second.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    private static final class GeneratorState {
+        private static final int ENTROPY_BYTES = 256;
+
+        private final SecureRandom random;
+        private final char[] buffer = new char[MAX_LENGTH];
+        private final EntropyBuffer entropy;
+        private long uses;
+
+        private GeneratorState(SecureRandom random) {
+            this.random = random;
+            this.entropy = new EntropyBuffer(random, ENTROPY_BYTES);
+        }
+
+        private void countUses(int count, long reseedInterval) {
+            if (reseedInterval <= 0) {
+                return;
+            }
+            uses += count;
+            if (uses >= reseedInterval) {
+                uses = 0;
+                entropy.discard();
+                try {
+                    random.reseed();
+                } catch (UnsupportedOperationException e) {
+                    random.setSeed(random.generateSeed(Long.BYTES));
+                }
+            }
+        }
+    }
+
+    private static final class EntropyBuffer {
+        private static final int BYTE_VALUES = 256;
+
+        private final SecureRandom random;
+        private final byte[] bytes;
+        private int position;
+
+        private EntropyBuffer(SecureRandom random, int size) {
+            this.random = random;
+            this.bytes = new byte[size];
+            this.position = size;
+        }
+
+        private void discard() {
+            position = bytes.length;
+        }
+
+        // Rejection sampling keeps the index uniform for any bound up to 256.
+        private int nextIndex(int bound) {
+            int limit = BYTE_VALUES - BYTE_VALUES % bound;
+            while (true) {
+                if (position == bytes.length) {
+                    random.nextBytes(bytes);
+                    position = 0;
+                }
+                int value = Byte.toUnsignedInt(bytes[position++]);
+                if (value < limit) {
+                    return value % bound;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.passwordgenerator.generator;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+@Component
+public class PasswordPregenerator {
+
+    private static final int LENGTHS = PasswordGenerator.MAX_LENGTH - PasswordGenerator.MIN_LENGTH + 1;
+    private static final double DEMAND_SMOOTHING = 0.3;
+    private static final int DEMAND_HORIZON_CYCLES = 4;
+    private static final double IDLE_DEMAND_RATE = 0.01;
+    private static final int MIN_CAPACITY = 2;
+
+    private final PasswordGenerator passwordGenerator;
+    private final boolean enabled;
+    private final int capacity;
+    private final int lowWater;
+    private final long refillIntervalNanos;
+    private final AtomicReferenceArray<Slot> slots =
+            new AtomicReferenceArray<>(LENGTHS * PasswordGenerator.MAX_COMPLEXITY);
+    private final AtomicBoolean refillRequested = new AtomicBoolean();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    private final LongAdder refilled = new LongAdder();
+    private final Thread refiller;
+    private volatile boolean running;
+
+    public PasswordPregenerator(PasswordGenerator passwordGenerator) {
+        this(passwordGenerator, false, 0, 0, Duration.ZERO);
+    }
+
+    @Autowired
+    public PasswordPregenerator(PasswordGenerator passwordGenerator,
+                                @Value("${password.pregen.enabled:false}") boolean enabled,
+                                @Value("${password.pregen.capacity:256}") int capacity,
+                                @Value("${password.pregen.low-water:64}") int lowWater,
+                                @Value("${password.pregen.refill-interval:100ms}") Duration refillInterval) {
+        this.passwordGenerator = passwordGenerator;
+        this.enabled = enabled;
+        this.capacity = Math.max(capacity, MIN_CAPACITY);
+        this.lowWater = Math.min(Math.max(lowWater, 1), this.capacity);
+        this.refillIntervalNanos = Math.max(refillInterval.toNanos(), 1);
+        if (enabled) {
+            running = true;
+            refiller = new Thread(this::refillLoop, "password-pregen");
+            refiller.setDaemon(true);
+            refiller.start();
+        } else {
+            refiller = null;
+        }
+    }
+
+    public String next(int length, int complexity) {
+        if (!enabled) {
+            return passwordGenerator.generate(length, complexity);
+        }
+        Slot slot = slot(length, complexity);
+        slot.demand.increment();
+        String password = slot.ring.poll();
+        if (slot.ring.size() < lowWater) {
+            requestRefill();
+        }
+        if (password != null) {
+            hits.increment();
+            return password;
+        }
+        fallbacks.increment();
+        return passwordGenerator.generate(length, complexity);
+    }
+
+    // Batches bypass the rings: the batch kernel is already cheaper per password than a ring hand-off.
+    public List<String> nextBatch(int[] lengths, int[] complexities) {
+        return passwordGenerator.generateBatch(lengths, complexities);
+    }
+
+    public PregenStats stats() {
+        long buffered = 0;
+        long totalCapacity = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            Slot slot = slots.get(i);
+            if (slot != null) {
+                buffered += slot.ring.size();
+                totalCapacity += slot.ring.capacity();
+            }
+        }
+        return new PregenStats(hits.sum(), fallbacks.sum(), refilled.sum(), buffered, totalCapacity);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (refiller != null) {
+            LockSupport.unpark(refiller);
+        }
+    }
+
+    int buffered(int length, int complexity) {
+        return slot(length, complexity).ring.size();
+    }
+
+    void refillOnce() {
+        for (int i = 0; i < slots.length(); i++) {
+            Slot slot = slots.get(i);
+            if (slot != null) {
+                refill(slot);
+            }
+        }
+    }
+
+    private void refill(Slot slot) {
+        slot.demandRate += DEMAND_SMOOTHING * (slot.demand.sumThenReset() - slot.demandRate);
+        if (slot.demandRate < IDLE_DEMAND_RATE) {
+            slot.demandRate = 0;
+        }
+        long wanted = (long) Math.ceil(slot.demandRate * DEMAND_HORIZON_CYCLES);
+        int target = (int) Math.min(capacity, wanted > 0 ? Math.max(wanted, lowWater) : 0);
+        int added = 0;
+        while (slot.ring.size() < target
+                && slot.ring.offer(passwordGenerator.generate(slot.length, slot.complexity))) {
+            added++;
+        }
+        refilled.add(added);
+    }
+
+    private void refillLoop() {
+        while (running) {
+            refillRequested.set(false);
+            refillOnce();
+            if (!refillRequested.get()) {
+                LockSupport.parkNanos(this, refillIntervalNanos);
+            }
+        }
+    }
+
+    private void requestRefill() {
+        if (refillRequested.compareAndSet(false, true)) {
+            LockSupport.unpark(refiller);
+        }
+    }
+
+    private Slot slot(int length, int complexity) {
+        int index = (complexity - PasswordGenerator.MIN_COMPLEXITY) * LENGTHS
+                + length - PasswordGenerator.MIN_LENGTH;
+        Slot slot = slots.get(index);
+        if (slot == null) {
+            slots.compareAndSet(index, null, new Slot(length, complexity, capacity));
+            slot = slots.get(index);
+        }
+        return slot;
+    }
+
+    private static final class Slot {
+        private final int length;
+        private final int complexity;
+        private final PasswordRing ring;
+        private final LongAdder demand = new LongAdder();
+        private double demandRate;
+
+        private Slot(int length, int complexity, int capacity) {
+            this.length = length;
+            this.complexity = complexity;
+            this.ring = new PasswordRing(capacity);
+        }
+    }
+
+    public record PregenStats(long hits, long fallbacks, long refilled, long buffered, long capacity) {
+    }
+}
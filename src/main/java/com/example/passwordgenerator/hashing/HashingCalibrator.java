@@ -0,0 +1,53 @@
+package com.example.passwordgenerator.hashing;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+public class HashingCalibrator {
+
+    private static final String PROBE = "calibration-probe";
+    private static final int SAMPLES = 3;
+    private static final double COST_STEP_FACTOR = 2.0;
+
+    private final HashingStrategyProperties properties;
+    private final LongSupplier ticker;
+
+    public HashingCalibrator(HashingStrategyProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    HashingCalibrator(HashingStrategyProperties properties, LongSupplier ticker) {
+        this.properties = properties;
+        this.ticker = ticker;
+    }
+
+    public int calibrate(String algorithm, Duration target) {
+        long targetNanos = target.toNanos();
+        int cost = properties.floor(algorithm);
+        int max = HashingStrategies.maxCost(algorithm);
+        long elapsed = measure(algorithm, cost);
+        if (HashingStrategies.isExponential(algorithm)) {
+            // Every step doubles the work, so keep stepping while the next cost lands closer to the target.
+            while (cost < max && Math.abs(Math.log(elapsed * COST_STEP_FACTOR / targetNanos))
+                    < Math.abs(Math.log((double) elapsed / targetNanos))) {
+                cost++;
+                elapsed = measure(algorithm, cost);
+            }
+            return cost;
+        }
+        long scaled = (long) ((double) cost * targetNanos / Math.max(elapsed, 1));
+        return (int) Math.max(cost, Math.min(max, scaled));
+    }
+
+    private long measure(String algorithm, int cost) {
+        HashingStrategy strategy = HashingStrategies.create(algorithm, cost, properties);
+        strategy.encode(PROBE);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = ticker.getAsLong();
+            strategy.encode(PROBE);
+            best = Math.min(best, ticker.getAsLong() - start);
+        }
+        return Math.max(best, 1);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.passwordgenerator.hashing;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Locale;
+
+public final class HashingStrategies {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String PBKDF2 = "pbkdf2";
+    public static final String ARGON2 = "argon2";
+
+    private static final int SALT_LENGTH = 16;
+    private static final int HASH_LENGTH = 32;
+    private static final int BCRYPT_MIN_COST = 4;
+    private static final int BCRYPT_MAX_COST = 31;
+    private static final int PBKDF2_MIN_ITERATIONS = 10_000;
+    private static final int PBKDF2_MAX_ITERATIONS = 10_000_000;
+    private static final int ARGON2_MIN_ITERATIONS = 1;
+    private static final int ARGON2_MAX_ITERATIONS = 1_000;
+
+    private HashingStrategies() {
+    }
+
+    public static HashingStrategy create(String algorithm, int cost, HashingStrategyProperties properties) {
+        return switch (algorithm.toLowerCase(Locale.ROOT)) {
+            case BCRYPT -> new EncoderStrategy(BCRYPT, cost, new BCryptPasswordEncoder(cost));
+            case PBKDF2 -> new EncoderStrategy(PBKDF2, cost, new Pbkdf2PasswordEncoder("", SALT_LENGTH,
+                    cost, Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256));
+            case ARGON2 -> new EncoderStrategy(ARGON2, cost, new Argon2PasswordEncoder(SALT_LENGTH,
+                    HASH_LENGTH, properties.getArgon2Parallelism(), properties.getArgon2MemoryKib(), cost));
+            default -> throw new IllegalArgumentException("Неизвестный алгоритм хеширования: " + algorithm);
+        };
+    }
+
+    public static int minCost(String algorithm) {
+        return switch (algorithm.toLowerCase(Locale.ROOT)) {
+            case BCRYPT -> BCRYPT_MIN_COST;
+            case PBKDF2 -> PBKDF2_MIN_ITERATIONS;
+            case ARGON2 -> ARGON2_MIN_ITERATIONS;
+            default -> throw new IllegalArgumentException("Неизвестный алгоритм хеширования: " + algorithm);
+        };
+    }
+
+    public static int maxCost(String algorithm) {
+        return switch (algorithm.toLowerCase(Locale.ROOT)) {
+            case BCRYPT -> BCRYPT_MAX_COST;
+            case PBKDF2 -> PBKDF2_MAX_ITERATIONS;
+            case ARGON2 -> ARGON2_MAX_ITERATIONS;
+            default -> throw new IllegalArgumentException("Неизвестный алгоритм хеширования: " + algorithm);
+        };
+    }
+
+    public static boolean isSupported(String algorithm, int cost) {
+        return switch (algorithm) {
+            case BCRYPT, PBKDF2, ARGON2 -> cost >= minCost(algorithm) && cost <= maxCost(algorithm);
+            default -> false;
+        };
+    }
+
+    // BCrypt cost is a log2 work factor; PBKDF2 and Argon2 costs scale time linearly.
+    public static boolean isExponential(String algorithm) {
+        return BCRYPT.equalsIgnoreCase(algorithm);
+    }
+
+    private record EncoderStrategy(String algorithm, int cost, PasswordEncoder encoder)
+            implements HashingStrategy {
+
+        @Override
+        public String encode(String rawPassword) {
+            return encoder.encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(String rawPassword, String hash) {
+            return encoder.matches(rawPassword, hash);
+        }
+    }
+}
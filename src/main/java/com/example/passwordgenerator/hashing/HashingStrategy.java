@@ -0,0 +1,12 @@
+package com.example.passwordgenerator.hashing;
+
+public interface HashingStrategy {
+
+    String algorithm();
+
+    int cost();
+
+    String encode(String rawPassword);
+
+    boolean matches(String rawPassword, String hash);
+}
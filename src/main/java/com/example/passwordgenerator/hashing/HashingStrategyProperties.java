@@ -0,0 +1,83 @@
+package com.example.passwordgenerator.hashing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "password.hashing.strategy")
+public class HashingStrategyProperties {
+
+    private static final Duration DEFAULT_TARGET_TIME = Duration.ofMillis(100);
+    private static final int DEFAULT_ARGON2_MEMORY_KIB = 16_384;
+    // Floors follow the OWASP password storage cheat sheet; calibration never goes below them.
+    private static final int BCRYPT_FLOOR = 10;
+    private static final int PBKDF2_FLOOR = 600_000;
+    private static final int ARGON2_FLOOR = 2;
+
+    private String algorithm = HashingStrategies.BCRYPT;
+    private int cost;
+    private Duration targetTime = DEFAULT_TARGET_TIME;
+    private int argon2MemoryKib = DEFAULT_ARGON2_MEMORY_KIB;
+    private int argon2Parallelism = 1;
+    private Map<String, Integer> minCost = new HashMap<>(Map.of(
+            HashingStrategies.BCRYPT, BCRYPT_FLOOR,
+            HashingStrategies.PBKDF2, PBKDF2_FLOOR,
+            HashingStrategies.ARGON2, ARGON2_FLOOR));
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public void setAlgorithm(String algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    public void setCost(int cost) {
+        this.cost = cost;
+    }
+
+    public Duration getTargetTime() {
+        return targetTime;
+    }
+
+    public void setTargetTime(Duration targetTime) {
+        this.targetTime = targetTime;
+    }
+
+    public int getArgon2MemoryKib() {
+        return argon2MemoryKib;
+    }
+
+    public void setArgon2MemoryKib(int argon2MemoryKib) {
+        this.argon2MemoryKib = argon2MemoryKib;
+    }
+
+    public int getArgon2Parallelism() {
+        return argon2Parallelism;
+    }
+
+    public void setArgon2Parallelism(int argon2Parallelism) {
+        this.argon2Parallelism = argon2Parallelism;
+    }
+
+    public Map<String, Integer> getMinCost() {
+        return minCost;
+    }
+
+    public void setMinCost(Map<String, Integer> minCost) {
+        this.minCost = minCost;
+    }
+
+    public int floor(String algorithm) {
+        int configured = minCost.getOrDefault(algorithm.toLowerCase(Locale.ROOT), 0);
+        return Math.min(Math.max(configured, HashingStrategies.minCost(algorithm)),
+                HashingStrategies.maxCost(algorithm));
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.passwordgenerator.hashing;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Prefixes every hash with {@code {algorithm:cost}} so hashes stay verifiable
+ * after the active strategy changes.
+ */
+public class StrategyPasswordEncoder implements PasswordEncoder {
+
+    private static final char PREFIX_START = '{';
+    private static final char PREFIX_END = '}';
+    private static final char SEPARATOR = ':';
+    private static final String LEGACY_BCRYPT = "$2";
+    private static final int LEGACY_BCRYPT_COST = 10;
+    private static final int MAX_CACHED_STRATEGIES = 16;
+
+    private final HashingStrategy active;
+    private final HashingStrategyProperties properties;
+    private final Map<String, HashingStrategy> strategies = new ConcurrentHashMap<>();
+
+    public StrategyPasswordEncoder(HashingStrategy active, HashingStrategyProperties properties) {
+        this.active = active;
+        this.properties = properties;
+        strategies.put(key(active.algorithm(), active.cost()), active);
+    }
+
+    public HashingStrategy activeStrategy() {
+        return active;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return prefix(active) + active.encode(rawPassword.toString());
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        if (encodedPassword.startsWith(LEGACY_BCRYPT)) {
+            return strategy(HashingStrategies.BCRYPT, LEGACY_BCRYPT_COST)
+                    .matches(rawPassword.toString(), encodedPassword);
+        }
+        int end = encodedPassword.indexOf(PREFIX_END);
+        int separator = encodedPassword.indexOf(SEPARATOR);
+        if (encodedPassword.charAt(0) != PREFIX_START || end < 0 || separator < 0 || separator > end) {
+            return false;
+        }
+        String algorithm = encodedPassword.substring(1, separator);
+        int cost = parseCost(encodedPassword.substring(separator + 1, end));
+        if (!HashingStrategies.isSupported(algorithm, cost)) {
+            return false;
+        }
+        return strategy(algorithm, cost).matches(rawPassword.toString(), encodedPassword.substring(end + 1));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return encodedPassword == null || !encodedPassword.startsWith(prefix(active));
+    }
+
+    // An unparsable cost maps to -1, which no algorithm supports.
+    private static int parseCost(String cost) {
+        try {
+            return Integer.parseInt(cost);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private HashingStrategy strategy(String algorithm, int cost) {
+        String key = key(algorithm, cost);
+        HashingStrategy strategy = strategies.get(key);
+        if (strategy != null) {
+            return strategy;
+        }
+        strategy = HashingStrategies.create(algorithm, cost, properties);
+        if (strategies.size() < MAX_CACHED_STRATEGIES) {
+            strategies.putIfAbsent(key, strategy);
+        }
+        return strategy;
+    }
+
+    private static String prefix(HashingStrategy strategy) {
+        return PREFIX_START + key(strategy.algorithm(), strategy.cost()) + PREFIX_END;
+    }
+
+    private static String key(String algorithm, int cost) {
+        return algorithm + SEPARATOR + cost;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.passwordgenerator.metrics;
+
+import com.example.passwordgenerator.cache.CacheStats;
+import com.example.passwordgenerator.cache.PasswordCache;
+import com.example.passwordgenerator.cache.TagCache;
+import com.example.passwordgenerator.generator.PasswordPregenerator;
+import com.example.passwordgenerator.hashing.PasswordHashingPipeline;
+import com.example.passwordgenerator.service.PasswordWriteBehindService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@Component
+public class ApplicationMetrics implements MeterBinder {
+
+    private final PasswordCache passwordCache;
+    private final TagCache tagCache;
+    private final PasswordHashingPipeline hashingPipeline;
+    private final PasswordPregenerator pregenerator;
+    private final PasswordWriteBehindService writeBehindService;
+
+    public ApplicationMetrics(PasswordCache passwordCache, TagCache tagCache,
+                              PasswordHashingPipeline hashingPipeline, PasswordPregenerator pregenerator,
+                              PasswordWriteBehindService writeBehindService) {
+        this.passwordCache = passwordCache;
+        this.tagCache = tagCache;
+        this.hashingPipeline = hashingPipeline;
+        this.pregenerator = pregenerator;
+        this.writeBehindService = writeBehindService;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        List<CacheStats> regions = passwordCache.getStatistics();
+        for (int i = 0; i < regions.size(); i++) {
+            int index = i;
+            bindCache(registry, regions.get(i).region(), passwordCache,
+                    cache -> cache.getStatistics().get(index));
+        }
+        bindCache(registry, tagCache.stats().region(), tagCache, TagCache::stats);
+
+        Gauge.builder("password.hashing.in-flight", hashingPipeline, PasswordHashingPipeline::inFlight)
+                .register(registry);
+
+        FunctionCounter.builder("password.pregen.hits", pregenerator, p -> p.stats().hits())
+                .register(registry);
+        FunctionCounter.builder("password.pregen.fallbacks", pregenerator, p -> p.stats().fallbacks())
+                .description("Пароли, сгенерированные в потоке запроса из-за пустого буфера")
+                .register(registry);
+        FunctionCounter.builder("password.pregen.refilled", pregenerator, p -> p.stats().refilled())
+                .register(registry);
+        Gauge.builder("password.pregen.buffered", pregenerator, p -> p.stats().buffered())
+                .register(registry);
+        Gauge.builder("password.pregen.fill-ratio", pregenerator, p -> fillRatio(p.stats()))
+                .register(registry);
+
+        Gauge.builder("password.write-behind.depth", writeBehindService, w -> w.stats().depth())
+                .register(registry);
+        TimeGauge.builder("password.write-behind.lag", writeBehindService, TimeUnit.NANOSECONDS,
+                        w -> w.stats().lagNanos())
+                .description("Возраст самой старой записи в очереди")
+                .register(registry);
+        FunctionCounter.builder("password.write-behind.persisted", writeBehindService,
+                        w -> w.stats().persisted())
+                .register(registry);
+        FunctionCounter.builder("password.write-behind.failed", writeBehindService, w -> w.stats().failed())
+                .register(registry);
+        FunctionCounter.builder("password.write-behind.caller-runs", writeBehindService,
+                        w -> w.stats().callerRuns())
+                .description("Записи, сохранённые в потоке запроса из-за заполненной очереди")
+                .register(registry);
+    }
+
+    private static double fillRatio(PasswordPregenerator.PregenStats stats) {
+        return stats.capacity() == 0 ? 0 : (double) stats.buffered() / stats.capacity();
+    }
+
+    private static <T> void bindCache(MeterRegistry registry, String region, T cache,
+                                      Function<T, CacheStats> stats) {
+        counter(registry, "cache.gets", region, cache, stats.andThen(CacheStats::hits), "result", "hit");
+        counter(registry, "cache.gets", region, cache, stats.andThen(CacheStats::misses), "result", "miss");
+        counter(registry, "cache.evictions", region, cache, stats.andThen(CacheStats::evictions));
+        Gauge.builder("cache.size", cache, c -> stats.apply(c).size())
+                .tag("cache", region)
+                .register(registry);
+    }
+
+    private static <T> void counter(MeterRegistry registry, String name, String region, T cache,
+                                    Function<T, Long> value, String... tags) {
+        FunctionCounter.builder(name, cache, c -> value.apply(c))
+                .tag("cache", region)
+                .tags(tags)
+                .register(registry);
+    }
+}
@@ -1,16 +1,43 @@
 package com.example.passwordgenerator.repository;
 
+import com.example.passwordgenerator.dto.PasswordSummary;
 import com.example.passwordgenerator.entity.Password;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface PasswordRepository extends JpaRepository<Password, Long> {
+public interface PasswordRepository extends JpaRepository<Password, Long>, PasswordRepositoryCustom {
 
-    @Query("SELECT p FROM Password p JOIN p.tags t WHERE t.name = :tagName")
-    List<Password> findPasswordsByTagName(@Param("tagName") String tagName);
-}
\ No newline at end of file
+    @Override
+    @EntityGraph(attributePaths = "tags")
+    List<Password> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = "tags")
+    Optional<Password> findById(Long id);
+
+    @Query("SELECT DISTINCT p FROM Password p LEFT JOIN FETCH p.tags WHERE p.id IN "
+            + "(SELECT tp.id FROM Tag t JOIN t.passwordEntries tp WHERE t.id IN :tagIds)")
+    List<Password> findPasswordsByTagIds(@Param("tagIds") Collection<Long> tagIds);
+
+    @Query("SELECT p.id FROM Password p WHERE p.id > :after ORDER BY p.id")
+    List<Long> findIdsAfter(@Param("after") Long after, Limit limit);
+
+    @Query("SELECT p.id FROM Password p ORDER BY p.id DESC")
+    List<Long> findNewestIds(Limit limit);
+
+    @Query("SELECT DISTINCT p FROM Password p LEFT JOIN FETCH p.tags WHERE p.id IN :ids ORDER BY p.id")
+    List<Password> findWithTagsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.example.passwordgenerator.dto.PasswordSummary(p.id, p.password, p.owner) "
+            + "FROM Password p ORDER BY p.id")
+    List<PasswordSummary> findAllSummaries();
+}
@@ -0,0 +1,10 @@
+package com.example.passwordgenerator.repository;
+
+import com.example.passwordgenerator.dto.PasswordSummary;
+
+import java.util.function.Consumer;
+
+public interface PasswordRepositoryCustom {
+
+    void forEachOrderedById(Consumer<PasswordSummary> action);
+}
@@ -0,0 +1,30 @@
+package com.example.passwordgenerator.repository;
+
+import com.example.passwordgenerator.dto.PasswordSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class PasswordRepositoryCustomImpl implements PasswordRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${password.stream.fetch-size:500}")
+    private int fetchSize;
+
+    @Override
+    public void forEachOrderedById(Consumer<PasswordSummary> action) {
+        try (Stream<PasswordSummary> passwords = entityManager
+                .createQuery("SELECT new com.example.passwordgenerator.dto.PasswordSummary("
+                        + "p.id, p.password, p.owner) FROM Password p ORDER BY p.id", PasswordSummary.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream()) {
+            passwords.forEach(action);
+        }
+    }
+}
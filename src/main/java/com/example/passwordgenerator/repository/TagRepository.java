@@ -1,9 +1,57 @@
 package com.example.passwordgenerator.repository;
 
+import com.example.passwordgenerator.dto.TagSummary;
 import com.example.passwordgenerator.entity.Tag;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TagRepository extends JpaRepository<Tag, Long> {
+
+    @Override
+    @EntityGraph(attributePaths = "passwordEntries")
+    List<Tag> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = "passwordEntries")
+    Optional<Tag> findById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = "passwordEntries")
+    List<Tag> findAllById(Iterable<Long> ids);
+
+    @Query("SELECT new com.example.passwordgenerator.dto.TagSummary(t.id, t.name) FROM Tag t ORDER BY t.id")
+    List<TagSummary> findAllSummaries();
+
+    @Query("SELECT t.name FROM Tag t JOIN t.passwordEntries p GROUP BY t.id, t.name ORDER BY COUNT(p) DESC")
+    List<String> findMostUsedNames(Limit limit);
+
+    @Query("SELECT t.name FROM Tag t WHERE t.id IN :ids")
+    List<String> findNamesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO password_tag (tag_id, password_id) "
+            + "SELECT t.id, p.id FROM tags t CROSS JOIN passwords p "
+            + "WHERE t.id IN (:tagIds) AND p.id IN (:passwordIds) "
+            + "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int attachPasswords(@Param("tagIds") Collection<Long> tagIds,
+                        @Param("passwordIds") Collection<Long> passwordIds);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM password_tag WHERE tag_id IN (:tagIds) AND password_id IN (:passwordIds)",
+            nativeQuery = true)
+    int detachPasswords(@Param("tagIds") Collection<Long> tagIds,
+                        @Param("passwordIds") Collection<Long> passwordIds);
 }
@@ -0,0 +1,114 @@
+package com.example.passwordgenerator.service;
+
+import com.example.passwordgenerator.dto.PasswordGenerationRequest;
+import com.example.passwordgenerator.entity.Password;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+@Service
+public class BulkGenerationStreamService {
+
+    private final PasswordService passwordService;
+    private final ExecutorService persistExecutor;
+    private final int chunkSize;
+    private final int maxPendingChunks;
+
+    public BulkGenerationStreamService(
+            PasswordService passwordService,
+            @Value("${password.bulk-stream.chunk-size:500}") int chunkSize,
+            @Value("${password.bulk-stream.max-pending-chunks:2}") int maxPendingChunks,
+            @Value("${password.bulk-stream.persist-threads:4}") int persistThreads) {
+        this.passwordService = passwordService;
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.maxPendingChunks = Math.max(maxPendingChunks, 1);
+        AtomicInteger counter = new AtomicInteger();
+        this.persistExecutor = Executors.newFixedThreadPool(Math.max(persistThreads, 1), runnable -> {
+            Thread thread = new Thread(runnable, "bulk-persist-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public int generate(Iterator<PasswordGenerationRequest> requests, Consumer<String> sink) {
+        Semaphore pendingChunks = new Semaphore(maxPendingChunks);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        List<PasswordGenerationRequest> chunk = new ArrayList<>(chunkSize);
+        int generated = 0;
+        try {
+            while (requests.hasNext()) {
+                PasswordGenerationRequest request = requests.next();
+                if (request == null) {
+                    continue;
+                }
+                chunk.add(request);
+                if (chunk.size() == chunkSize) {
+                    generated += generateChunk(chunk, sink, pendingChunks, failure);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                generated += generateChunk(chunk, sink, pendingChunks, failure);
+            }
+        } finally {
+            pendingChunks.acquireUninterruptibly(maxPendingChunks);
+            pendingChunks.release(maxPendingChunks);
+        }
+        rethrow(failure);
+        return generated;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        persistExecutor.shutdown();
+    }
+
+    private int generateChunk(List<PasswordGenerationRequest> chunk, Consumer<String> sink,
+                              Semaphore pendingChunks, AtomicReference<RuntimeException> failure) {
+        List<String> passwords = passwordService.generatePasswordsBatch(chunk);
+        List<Password> entities = new ArrayList<>(passwords.size());
+        for (int i = 0; i < passwords.size(); i++) {
+            sink.accept(passwords.get(i));
+            entities.add(new Password(passwords.get(i), chunk.get(i).getOwner()));
+        }
+        persist(entities, pendingChunks, failure);
+        return passwords.size();
+    }
+
+    private void persist(List<Password> chunk, Semaphore pendingChunks,
+                         AtomicReference<RuntimeException> failure) {
+        rethrow(failure);
+        pendingChunks.acquireUninterruptibly();
+        try {
+            persistExecutor.execute(() -> {
+                try {
+                    passwordService.createBulk(chunk);
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    pendingChunks.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            pendingChunks.release();
+            throw e;
+        }
+    }
+
+    private static void rethrow(AtomicReference<RuntimeException> failure) {
+        RuntimeException e = failure.get();
+        if (e != null) {
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.passwordgenerator.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fills the caches from an application runner: Spring Boot has already reported liveness as CORRECT but
+ * switches readiness to ACCEPTING_TRAFFIC only after runners return, so the readiness probe keeps a cold
+ * instance out of rotation until warm-up finishes or its budget runs out.
+ */
+@Service
+public class CacheWarmupService implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheWarmupService.class);
+
+    private final PasswordService passwordService;
+    private final TagService tagService;
+    private final boolean enabled;
+    private final int topTags;
+    private final int newestPasswords;
+    private final Duration budget;
+    private final int threads;
+
+    public CacheWarmupService(PasswordService passwordService, TagService tagService,
+                              @Value("${password.warmup.enabled:false}") boolean enabled,
+                              @Value("${password.warmup.top-tags:20}") int topTags,
+                              @Value("${password.warmup.newest-passwords:1000}") int newestPasswords,
+                              @Value("${password.warmup.budget:30s}") Duration budget,
+                              @Value("${password.warmup.threads:4}") int threads) {
+        this.passwordService = passwordService;
+        this.tagService = tagService;
+        this.enabled = enabled;
+        this.topTags = topTags;
+        this.newestPasswords = newestPasswords;
+        this.budget = budget;
+        this.threads = Math.max(threads, 1);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled) {
+            warmUp();
+        }
+    }
+
+    public boolean warmUp() {
+        long start = System.nanoTime();
+        long deadline = start + budget.toNanos();
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "cache-warmup-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<CompletableFuture<?>> loads = new ArrayList<>();
+            loads.add(CompletableFuture.runAsync(tagService::findAll, executor));
+            if (newestPasswords > 0) {
+                loads.add(CompletableFuture.runAsync(
+                        () -> passwordService.preloadNewest(newestPasswords), executor));
+            }
+            if (topTags > 0) {
+                loads.add(CompletableFuture.supplyAsync(() -> tagService.findMostUsedNames(topTags), executor)
+                        .thenCompose(names -> CompletableFuture.allOf(names.stream()
+                                .map(name -> CompletableFuture.runAsync(
+                                        () -> passwordService.findPasswordsByTagName(name), executor))
+                                .toArray(CompletableFuture<?>[]::new))));
+            }
+            CompletableFuture<Void> all = CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[0]));
+            boolean completed = await(all, deadline);
+            logger.info("Прогрев кеша {} за {} мс", completed ? "завершён" : "прерван по бюджету времени",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return completed;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static boolean await(CompletableFuture<?> loads, long deadline) {
+        try {
+            loads.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            logger.warn("Прогрев кеша завершился с ошибкой", e.getCause());
+            return false;
+        }
+    }
+}
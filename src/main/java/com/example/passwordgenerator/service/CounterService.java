@@ -1,5 +1,6 @@
 package com.example.passwordgenerator.service;
 
+import com.example.passwordgenerator.counter.CounterSnapshot;
 import com.example.passwordgenerator.counter.RequestCounterInterface;
 import org.springframework.stereotype.Service;
 
@@ -16,6 +17,10 @@ public class CounterService {
         return requestCounter.getCount();
     }
 
+    public CounterSnapshot getSnapshot() {
+        return requestCounter.snapshot();
+    }
+
     public void resetRequestCount() {
         requestCounter.reset();
     }
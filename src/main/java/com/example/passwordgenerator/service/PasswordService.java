@@ -1,42 +1,72 @@
 package com.example.passwordgenerator.service;
 
+import com.example.passwordgenerator.cache.DataVersion;
 import com.example.passwordgenerator.cache.PasswordCache;
+import com.example.passwordgenerator.cache.SingleFlight;
 import com.example.passwordgenerator.dto.PasswordGenerationRequest;
+import com.example.passwordgenerator.dto.PasswordPage;
+import com.example.passwordgenerator.dto.PasswordSummary;
 import com.example.passwordgenerator.entity.Password;
+import com.example.passwordgenerator.generator.PasswordGenerator;
+import com.example.passwordgenerator.generator.PasswordPregenerator;
+import com.example.passwordgenerator.hashing.PasswordHashingPipeline;
 import com.example.passwordgenerator.repository.PasswordRepository;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.security.SecureRandom;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 public class PasswordService {
 
-    private static final String NUMBERS = "0123456789";
-    private static final String LETTERS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
-    private static final String SYMBOLS = "!@#$%^&*()_-+=<>?/{}[]|";
+    public static final int MAX_PAGE_SIZE = 1000;
+    static final Duration DEFAULT_LOAD_TIMEOUT = Duration.ofSeconds(5);
+
     private final PasswordRepository passwordRepository;
     private final PasswordCache passwordCache;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordPregenerator passwordPregenerator;
+    private final PasswordHashingPipeline hashingPipeline;
+    private final TagService tagService;
+    private final DataVersion dataVersion;
+    private final SingleFlight<Boolean, List<Password>> allLoads;
+    private final SingleFlight<Long, Optional<Password>> byIdLoads;
+    private final SingleFlight<String, List<Password>> byTagLoads;
+
+    public PasswordService(PasswordRepository passwordRepository, PasswordCache passwordCache,
+                           PasswordPregenerator passwordPregenerator, PasswordHashingPipeline hashingPipeline,
+                           TagService tagService) {
+        this(passwordRepository, passwordCache, passwordPregenerator, hashingPipeline, tagService,
+                new DataVersion(), DEFAULT_LOAD_TIMEOUT);
+    }
 
-    public PasswordService(PasswordRepository passwordRepository, PasswordCache passwordCache, BCryptPasswordEncoder passwordEncoder) {
+    @Autowired
+    public PasswordService(PasswordRepository passwordRepository, PasswordCache passwordCache,
+                           PasswordPregenerator passwordPregenerator, PasswordHashingPipeline hashingPipeline,
+                           TagService tagService, DataVersion dataVersion,
+                           @Value("${password.cache.load-timeout:5s}") Duration loadTimeout) {
         this.passwordRepository = passwordRepository;
         this.passwordCache = passwordCache;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordPregenerator = passwordPregenerator;
+        this.hashingPipeline = hashingPipeline;
+        this.tagService = tagService;
+        this.dataVersion = dataVersion;
+        this.allLoads = new SingleFlight<>(loadTimeout);
+        this.byIdLoads = new SingleFlight<>(loadTimeout);
+        this.byTagLoads = new SingleFlight<>(loadTimeout);
     }
 
     public String generatePassword(int length, int complexity, String owner) {
-        if (length < 4 || length > 30) {
-            throw new IllegalArgumentException("Длина пароля должна быть от 4 до 30 символов.");
-        }
-        if (complexity < 1 || complexity > 3) {
-            throw new IllegalArgumentException("Уровень сложности должен быть от 1 до 3.");
-        }
+        validate(length, complexity);
 
         String cacheKey = length + "_" + complexity + "_" + owner;
         Optional<String> cachedPassword = passwordCache.getGeneratedPassword(cacheKey);
@@ -44,48 +74,7 @@ public class PasswordService {
             return cachedPassword.get();
         }
 
-        String characters = NUMBERS;
-        if (complexity >= 2) {
-            characters += LETTERS;
-        }
-        if (complexity >= 3) {
-            characters += SYMBOLS;
-        }
-
-        SecureRandom random = new SecureRandom();
-        StringBuilder password = new StringBuilder();
-
-        int guaranteedChars = 0;
-        if (complexity >= 1 && length > guaranteedChars) {
-            int index = random.nextInt(NUMBERS.length());
-            password.append(NUMBERS.charAt(index));
-            guaranteedChars++;
-        }
-        if (complexity >= 2 && length > guaranteedChars) {
-            int index = random.nextInt(LETTERS.length());
-            password.append(LETTERS.charAt(index));
-            guaranteedChars++;
-        }
-        if (complexity >= 3 && length > guaranteedChars) {
-            int index = random.nextInt(SYMBOLS.length());
-            password.append(SYMBOLS.charAt(index));
-            guaranteedChars++;
-        }
-
-        for (int i = guaranteedChars; i < length; i++) {
-            int index = random.nextInt(characters.length());
-            password.append(characters.charAt(index));
-        }
-
-        char[] passwordArray = password.toString().toCharArray();
-        for (int i = passwordArray.length - 1; i > 0; i--) {
-            int j = random.nextInt(i + 1);
-            char temp = passwordArray[i];
-            passwordArray[i] = passwordArray[j];
-            passwordArray[j] = temp;
-        }
-
-        String generatedPassword = new String(passwordArray);
+        String generatedPassword = passwordPregenerator.next(length, complexity);
         passwordCache.putGeneratedPassword(cacheKey, generatedPassword);
         return generatedPassword;
     }
@@ -98,6 +87,7 @@ public class PasswordService {
         List<PasswordGenerationRequest> validRequests = requests.stream()
                 .filter(Objects::nonNull)
                 .toList();
+        validateAll(validRequests);
 
         String cacheKey = validRequests.stream()
                 .map(req -> req.getLength() + "_" + req.getComplexity() + "_" + req.getOwner())
@@ -108,9 +98,7 @@ public class PasswordService {
             return cachedPasswords.get();
         }
 
-        List<String> generatedPasswords = validRequests.stream()
-                .map(request -> generatePassword(request.getLength(), request.getComplexity(), request.getOwner()))
-                .toList();
+        List<String> generatedPasswords = nextBatch(validRequests);
 
         passwordCache.putBulkPasswords(cacheKey, generatedPasswords);
 
@@ -124,12 +112,17 @@ public class PasswordService {
         return generatedPasswords;
     }
 
+    public List<String> generatePasswordsBatch(List<PasswordGenerationRequest> requests) {
+        validateAll(requests);
+        return nextBatch(requests);
+    }
+
     public Password create(Password password) {
         String plainPassword = password.getPassword();
-        String hashedPassword = passwordEncoder.encode(plainPassword);
+        String hashedPassword = hashingPipeline.encode(plainPassword);
         password.setPassword(hashedPassword);
         Password saved = passwordRepository.save(password);
-        passwordCache.clearDatabaseCache();
+        dataVersion.bump(() -> passwordCache.refreshPassword(saved));
         return saved;
     }
 
@@ -138,21 +131,57 @@ public class PasswordService {
         if (cachedPasswords.isPresent()) {
             return cachedPasswords.get();
         }
-        List<Password> passwords = passwordRepository.findAll();
-        passwordCache.putAllPasswords(passwords);
-        return passwords;
+        return allLoads.load(Boolean.TRUE, () -> {
+            long version = dataVersion.current();
+            List<Password> passwords = passwordRepository.findAll();
+            dataVersion.putIfCurrent(version, () -> passwordCache.putAllPasswords(passwords));
+            return passwords;
+        });
+    }
+
+    public PasswordPage findPage(long after, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Размер страницы должен быть от 1 до " + MAX_PAGE_SIZE + ".");
+        }
+        List<Long> ids = passwordRepository.findIdsAfter(after, Limit.of(limit));
+        if (ids.isEmpty()) {
+            return new PasswordPage(List.of(), null);
+        }
+        List<Password> passwords = passwordRepository.findWithTagsByIdIn(ids);
+        Long nextAfter = ids.size() == limit ? ids.get(ids.size() - 1) : null;
+        return new PasswordPage(passwords, nextAfter);
+    }
+
+    public int preloadNewest(int limit) {
+        List<Long> ids = passwordRepository.findNewestIds(Limit.of(limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        long version = dataVersion.current();
+        List<Password> passwords = passwordRepository.findWithTagsByIdIn(ids);
+        dataVersion.putIfCurrent(version, () -> passwords.forEach(
+                password -> passwordCache.putPasswordById(password.getId(), password)));
+        return passwords.size();
+    }
+
+    public List<PasswordSummary> findSummaries() {
+        return passwordRepository.findAllSummaries();
+    }
+
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<PasswordSummary> consumer) {
+        passwordRepository.forEachOrderedById(consumer);
     }
 
     public List<Password> createBulk(List<Password> passwords) {
-        List<Password> savedPasswords = passwords.stream()
-                .map(password -> {
-                    String plainPassword = password.getPassword();
-                    String hashedPassword = passwordEncoder.encode(plainPassword);
-                    password.setPassword(hashedPassword);
-                    return passwordRepository.save(password);
-                })
-                .collect(Collectors.toList());
-        passwordCache.clearDatabaseCache();
+        List<String> hashedPasswords = hashingPipeline.encodeAll(passwords.stream()
+                .map(Password::getPassword)
+                .toList());
+        for (int i = 0; i < passwords.size(); i++) {
+            passwords.get(i).setPassword(hashedPasswords.get(i));
+        }
+        List<Password> savedPasswords = passwordRepository.saveAll(passwords);
+        dataVersion.bump(() -> passwordCache.refreshPasswords(savedPasswords));
         return savedPasswords;
     }
 
@@ -161,9 +190,13 @@ public class PasswordService {
         if (cachedPassword.isPresent()) {
             return cachedPassword;
         }
-        Optional<Password> password = passwordRepository.findById(id);
-        password.ifPresent(p -> passwordCache.putPasswordById(id, p));
-        return password;
+        return byIdLoads.load(id, () -> {
+            long version = dataVersion.current();
+            Optional<Password> password = passwordRepository.findById(id);
+            password.ifPresent(p -> dataVersion.putIfCurrent(version,
+                    () -> passwordCache.putPasswordById(id, p)));
+            return password;
+        });
     }
 
     public Password update(Password password) {
@@ -172,26 +205,61 @@ public class PasswordService {
         }
 
         String plainPassword = password.getPassword();
-        String hashedPassword = passwordEncoder.encode(plainPassword);
+        String hashedPassword = hashingPipeline.encode(plainPassword);
         password.setPassword(hashedPassword);
 
         Password saved = passwordRepository.save(password);
-        passwordCache.clearDatabaseCache();
+        // The merge result carries the request's tags, not the stored ones, so the cache gets a fresh copy.
+        Optional<Password> current = passwordRepository.findWithTagsByIdIn(List.of(saved.getId())).stream()
+                .findFirst();
+        dataVersion.bump(() -> passwordCache.replacePassword(saved.getId(), current));
         return saved;
     }
 
     public void delete(Long id) {
         passwordRepository.deleteById(id);
-        passwordCache.clearDatabaseCache();
+        dataVersion.bump(() -> passwordCache.evictPassword(id));
     }
 
     public List<Password> findPasswordsByTagName(String tagName) {
-        Optional<List<Password>> cachedPasswords = passwordCache.getPasswordsByTag(tagName);
+        String cacheKey = tagService.nameKey(tagName);
+        Optional<List<Password>> cachedPasswords = passwordCache.getPasswordsByTag(cacheKey);
         if (cachedPasswords.isPresent()) {
             return cachedPasswords.get();
         }
-        List<Password> passwords = passwordRepository.findPasswordsByTagName(tagName);
-        passwordCache.putPasswordsByTag(tagName, passwords);
-        return passwords;
+        return byTagLoads.load(cacheKey, () -> {
+            long version = dataVersion.current();
+            Set<Long> tagIds = tagService.findTagIdsByName(tagName);
+            List<Password> passwords = tagIds.isEmpty()
+                    ? List.of()
+                    : passwordRepository.findPasswordsByTagIds(tagIds);
+            dataVersion.putIfCurrent(version, () -> passwordCache.putPasswordsByTag(cacheKey, passwords));
+            return passwords;
+        });
+    }
+
+    private List<String> nextBatch(List<PasswordGenerationRequest> requests) {
+        int[] lengths = new int[requests.size()];
+        int[] complexities = new int[requests.size()];
+        for (int i = 0; i < lengths.length; i++) {
+            lengths[i] = requests.get(i).getLength();
+            complexities[i] = requests.get(i).getComplexity();
+        }
+        return passwordPregenerator.nextBatch(lengths, complexities);
+    }
+
+    private static void validateAll(List<PasswordGenerationRequest> requests) {
+        for (PasswordGenerationRequest request : requests) {
+            validate(request.getLength(), request.getComplexity());
+        }
+    }
+
+    private static void validate(int length, int complexity) {
+        if (length < PasswordGenerator.MIN_LENGTH || length > PasswordGenerator.MAX_LENGTH) {
+            throw new IllegalArgumentException("Длина пароля должна быть от 4 до 30 символов.");
+        }
+        if (complexity < PasswordGenerator.MIN_COMPLEXITY || complexity > PasswordGenerator.MAX_COMPLEXITY) {
+            throw new IllegalArgumentException("Уровень сложности должен быть от 1 до 3.");
+        }
     }
-}
\ No newline at end of file
+}
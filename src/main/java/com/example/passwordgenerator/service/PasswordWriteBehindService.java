@@ -0,0 +1,213 @@
+package com.example.passwordgenerator.service;
+
+import com.example.passwordgenerator.entity.Password;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service
+public class PasswordWriteBehindService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordWriteBehindService.class);
+    private static final long POLL_INTERVAL_MILLIS = 100;
+    private static final int DEFAULT_RETRY_ATTEMPTS = 3;
+    private static final Duration DEFAULT_RETRY_BACKOFF = Duration.ofMillis(200);
+    private static final int RETRY_BACKOFF_MULTIPLIER = 2;
+
+    private final PasswordService passwordService;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int retryAttempts;
+    private final Duration retryBackoff;
+    private final long offerTimeoutNanos;
+    private final Duration shutdownTimeout;
+    private final BlockingQueue<Pending> queue;
+    private final ExecutorService workers;
+    private final LongAdder persisted = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+    private volatile boolean running;
+
+    public PasswordWriteBehindService(PasswordService passwordService) {
+        this(passwordService, false, 1, 1, 1, Duration.ZERO, Duration.ZERO);
+    }
+
+    public PasswordWriteBehindService(PasswordService passwordService, boolean enabled, int capacity,
+                                      int batchSize, int workers, Duration offerTimeout,
+                                      Duration shutdownTimeout) {
+        this(passwordService, enabled, capacity, batchSize, workers, offerTimeout, shutdownTimeout,
+                DEFAULT_RETRY_ATTEMPTS, DEFAULT_RETRY_BACKOFF);
+    }
+
+    @Autowired
+    public PasswordWriteBehindService(
+            PasswordService passwordService,
+            @Value("${password.write-behind.enabled:false}") boolean enabled,
+            @Value("${password.write-behind.capacity:10000}") int capacity,
+            @Value("${password.write-behind.batch-size:100}") int batchSize,
+            @Value("${password.write-behind.workers:1}") int workers,
+            @Value("${password.write-behind.offer-timeout:50ms}") Duration offerTimeout,
+            @Value("${password.write-behind.shutdown-timeout:30s}") Duration shutdownTimeout,
+            @Value("${password.write-behind.retry-attempts:3}") int retryAttempts,
+            @Value("${password.write-behind.retry-backoff:200ms}") Duration retryBackoff) {
+        this.passwordService = passwordService;
+        this.enabled = enabled;
+        this.batchSize = Math.max(batchSize, 1);
+        this.retryAttempts = Math.max(retryAttempts, 1);
+        this.retryBackoff = retryBackoff;
+        this.offerTimeoutNanos = Math.max(offerTimeout.toNanos(), 0);
+        this.shutdownTimeout = shutdownTimeout;
+        this.queue = new ArrayBlockingQueue<>(Math.max(capacity, 1));
+        if (enabled) {
+            running = true;
+            int workerCount = Math.max(workers, 1);
+            AtomicInteger counter = new AtomicInteger();
+            this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+                Thread thread = new Thread(runnable, "password-write-behind-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            for (int i = 0; i < workerCount; i++) {
+                this.workers.execute(this::drainLoop);
+            }
+        } else {
+            this.workers = null;
+        }
+    }
+
+    public void persist(Password password) {
+        if (!enabled) {
+            passwordService.create(password);
+            return;
+        }
+        boolean queued = false;
+        if (running) {
+            try {
+                queued = queue.offer(new Pending(password, System.nanoTime()), offerTimeoutNanos,
+                        TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (!queued) {
+            // A full queue pushes the write back onto the request thread instead of dropping it.
+            callerRuns.increment();
+            passwordService.create(password);
+        }
+    }
+
+    public WriteBehindStats stats() {
+        Pending oldest = queue.peek();
+        long lagNanos = oldest == null ? 0 : Math.max(System.nanoTime() - oldest.enqueuedAt(), 0);
+        return new WriteBehindStats(queue.size(), lagNanos, persisted.sum(), failed.sum(), callerRuns.sum());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (workers == null) {
+            return;
+        }
+        running = false;
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                logger.warn("Очередь отложенной записи не сохранена полностью, осталось {} паролей",
+                        queue.size());
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.shutdownNow();
+        }
+    }
+
+    private void drainLoop() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            Pending first;
+            try {
+                first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first == null) {
+                continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, batchSize - 1);
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        long backoffMillis = retryBackoff.toMillis();
+        for (int attempt = 1; attempt <= retryAttempts; attempt++) {
+            try {
+                passwordService.createBulk(copies(batch));
+                persisted.add(batch.size());
+                return;
+            } catch (RuntimeException e) {
+                logger.warn("Попытка {} из {} сохранить {} паролей из очереди не удалась",
+                        attempt, retryAttempts, batch.size(), e);
+            }
+            if (attempt < retryAttempts && !sleep(backoffMillis)) {
+                break;
+            }
+            backoffMillis *= RETRY_BACKOFF_MULTIPLIER;
+        }
+        // Row by row isolates the entries the database rejects from the rest of the batch.
+        for (Pending pending : batch) {
+            Password password = pending.password();
+            try {
+                passwordService.create(new Password(password.getPassword(), password.getOwner()));
+                persisted.increment();
+            } catch (RuntimeException e) {
+                failed.increment();
+                logger.error("Пароль из очереди отложенной записи не сохранён: id={}, owner={}",
+                        password.getId(), password.getOwner(), e);
+            }
+        }
+    }
+
+    // Saving replaces the raw password with its hash, so every attempt works on fresh copies.
+    private static List<Password> copies(List<Pending> batch) {
+        List<Password> passwords = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            Password password = pending.password();
+            passwords.add(new Password(password.getPassword(), password.getOwner()));
+        }
+        return passwords;
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record Pending(Password password, long enqueuedAt) {
+    }
+
+    public record WriteBehindStats(int depth, long lagNanos, long persisted, long failed, long callerRuns) {
+    }
+}
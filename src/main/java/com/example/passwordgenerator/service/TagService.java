@@ -1,22 +1,55 @@
 package com.example.passwordgenerator.service;
 
+import com.example.passwordgenerator.cache.DataVersion;
+import com.example.passwordgenerator.cache.PasswordCache;
+import com.example.passwordgenerator.cache.SingleFlight;
 import com.example.passwordgenerator.cache.TagCache;
+import com.example.passwordgenerator.dto.TagAssignmentRequest;
+import com.example.passwordgenerator.dto.TagAssignmentResult;
+import com.example.passwordgenerator.dto.TagSummary;
 import com.example.passwordgenerator.entity.Tag;
 import com.example.passwordgenerator.repository.TagRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class TagService {
 
+    public static final int MAX_ASSIGNMENT_IDS = 1000;
+
     private final TagRepository tagRepository;
     private final TagCache tagCache;
+    private final PasswordCache passwordCache;
+    private final DataVersion dataVersion;
+    private final SingleFlight<Boolean, List<Tag>> allLoads;
+    private final SingleFlight<Long, Optional<Tag>> byIdLoads;
+
+    public TagService(TagRepository tagRepository, TagCache tagCache, PasswordCache passwordCache) {
+        this(tagRepository, tagCache, passwordCache, new DataVersion(), PasswordService.DEFAULT_LOAD_TIMEOUT);
+    }
 
-    public TagService(TagRepository tagRepository, TagCache tagCache) {
+    @Autowired
+    public TagService(TagRepository tagRepository, TagCache tagCache, PasswordCache passwordCache,
+                      DataVersion dataVersion,
+                      @Value("${password.cache.load-timeout:5s}") Duration loadTimeout) {
         this.tagRepository = tagRepository;
         this.tagCache = tagCache;
+        this.passwordCache = passwordCache;
+        this.dataVersion = dataVersion;
+        this.allLoads = new SingleFlight<>(loadTimeout);
+        this.byIdLoads = new SingleFlight<>(loadTimeout);
     }
 
     public List<Tag> findAll() {
@@ -24,9 +57,41 @@ public class TagService {
         if (cachedTags.isPresent()) {
             return cachedTags.get();
         }
-        List<Tag> tags = tagRepository.findAll();
-        tagCache.putAllTags(tags);
-        return tags;
+        return allLoads.load(Boolean.TRUE, () -> {
+            long version = dataVersion.current();
+            List<Tag> tags = tagRepository.findAll();
+            dataVersion.putIfCurrent(version, () -> tagCache.putAllTags(tags));
+            return tags;
+        });
+    }
+
+    public List<TagSummary> findSummaries() {
+        return tagRepository.findAllSummaries();
+    }
+
+    public List<String> findMostUsedNames(int limit) {
+        return tagRepository.findMostUsedNames(Limit.of(limit));
+    }
+
+    public String nameKey(String name) {
+        return tagCache.nameKey(name);
+    }
+
+    public Set<Long> findTagIdsByName(String name) {
+        Optional<Set<Long>> indexed = tagCache.findTagIds(name);
+        if (indexed.isPresent()) {
+            return indexed.get();
+        }
+        long version = tagCache.nameIndexVersion();
+        List<TagSummary> tags = tagRepository.findAllSummaries();
+        if (tagCache.loadNameIndex(tags, version)) {
+            return tagCache.findTagIds(name).orElse(Set.of());
+        }
+        String key = tagCache.nameKey(name);
+        return tags.stream()
+                .filter(tag -> Objects.equals(tagCache.nameKey(tag.name()), key))
+                .map(TagSummary::id)
+                .collect(Collectors.toSet());
     }
 
     public Optional<Tag> findById(Long id) {
@@ -34,29 +99,112 @@ public class TagService {
         if (cachedTag.isPresent()) {
             return cachedTag;
         }
-        Optional<Tag> tag = tagRepository.findById(id);
-        tag.ifPresent(t -> tagCache.putTagById(id, t));
-        return tag;
+        return byIdLoads.load(id, () -> {
+            long version = dataVersion.current();
+            Optional<Tag> tag = tagRepository.findById(id);
+            tag.ifPresent(t -> dataVersion.putIfCurrent(version, () -> tagCache.putTagById(id, t)));
+            return tag;
+        });
+    }
+
+    public List<Tag> findByIds(Collection<Long> ids) {
+        List<Tag> found = tagCache.getTagsByIds(ids);
+        if (found.size() == ids.size()) {
+            return found;
+        }
+        Set<Long> missing = new HashSet<>(ids);
+        found.forEach(tag -> missing.remove(tag.getId()));
+        long version = dataVersion.current();
+        List<Tag> loaded = tagRepository.findAllById(missing);
+        dataVersion.putIfCurrent(version, () -> tagCache.putTags(loaded));
+        List<Tag> tags = new ArrayList<>(found.size() + loaded.size());
+        tags.addAll(found);
+        tags.addAll(loaded);
+        return tags;
+    }
+
+    public TagAssignmentResult attachPasswords(TagAssignmentRequest request) {
+        validate(request);
+        if (request.tagIds().isEmpty() || request.passwordIds().isEmpty()) {
+            return new TagAssignmentResult(0);
+        }
+        int affected = tagRepository.attachPasswords(request.tagIds(), request.passwordIds());
+        evictAssignments(request, affected);
+        return new TagAssignmentResult(affected);
+    }
+
+    public TagAssignmentResult detachPasswords(TagAssignmentRequest request) {
+        validate(request);
+        if (request.tagIds().isEmpty() || request.passwordIds().isEmpty()) {
+            return new TagAssignmentResult(0);
+        }
+        int affected = tagRepository.detachPasswords(request.tagIds(), request.passwordIds());
+        evictAssignments(request, affected);
+        return new TagAssignmentResult(affected);
     }
 
     public Tag create(Tag tag) {
         Tag saved = tagRepository.save(tag);
-        tagCache.clearCache();
+        dataVersion.bump(() -> {
+            tagCache.refreshTag(saved);
+            passwordCache.evictPasswordsByTag(tagCache.nameKey(saved.getName()));
+        });
         return saved;
     }
 
     public Tag update(Tag tag) {
-        if (!tagRepository.existsById(tag.getId())) {
-            throw new IllegalArgumentException("Tag not found");
-        }
+        String previousName = findName(tag.getId())
+                .orElseThrow(() -> new IllegalArgumentException("Tag not found"));
 
         Tag saved = tagRepository.save(tag);
-        tagCache.clearCache();
+        dataVersion.bump(() -> {
+            tagCache.refreshTag(saved);
+            passwordCache.evictPasswordsByTag(tagCache.nameKey(previousName));
+            passwordCache.evictPasswordsByTag(tagCache.nameKey(saved.getName()));
+        });
         return saved;
     }
 
     public void delete(Long id) {
+        Optional<String> previousName = tagCache.getTagById(id)
+                .map(Tag::getName)
+                .or(() -> findName(id));
         tagRepository.deleteById(id);
-        tagCache.clearCache();
+        dataVersion.bump(() -> {
+            previousName.ifPresent(name -> passwordCache.evictPasswordsByTag(tagCache.nameKey(name)));
+            tagCache.evictTag(id);
+        });
+    }
+
+    // Reads only the name: findById fetches the whole password collection through its entity graph.
+    private Optional<String> findName(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return tagRepository.findNamesByIdIn(List.of(id)).stream().findFirst();
+    }
+
+    private static void validate(TagAssignmentRequest request) {
+        if (request == null || request.tagIds() == null || request.passwordIds() == null) {
+            throw new IllegalArgumentException("Нужно указать tagIds и passwordIds.");
+        }
+        if (request.tagIds().size() > MAX_ASSIGNMENT_IDS
+                || request.passwordIds().size() > MAX_ASSIGNMENT_IDS) {
+            throw new IllegalArgumentException(
+                    "Не более " + MAX_ASSIGNMENT_IDS + " идентификаторов в списке.");
+        }
+    }
+
+    private void evictAssignments(TagAssignmentRequest request, int affected) {
+        if (affected == 0) {
+            return;
+        }
+        List<String> nameKeys = tagRepository.findNamesByIdIn(request.tagIds()).stream()
+                .map(tagCache::nameKey)
+                .toList();
+        dataVersion.bump(() -> {
+            passwordCache.evictTagAssignments(nameKeys, request.passwordIds());
+            tagCache.invalidateTags(request.tagIds());
+        });
     }
-}
\ No newline at end of file
+}
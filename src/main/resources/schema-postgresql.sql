@@ -0,0 +1,12 @@
+-- Переход с IDENTITY на последовательности с pooled-оптимизатором (allocationSize = 50).
+-- Скрипт идемпотентен и выполняется после обновления схемы Hibernate при каждом запуске.
+CREATE SEQUENCE IF NOT EXISTS passwords_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tags_seq START WITH 1 INCREMENT BY 50;
+
+ALTER TABLE IF EXISTS passwords ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE IF EXISTS tags ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+SELECT setval('passwords_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM passwords) + 50,
+                                        (SELECT last_value FROM passwords_seq)));
+SELECT setval('tags_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM tags) + 50,
+                                   (SELECT last_value FROM tags_seq)));
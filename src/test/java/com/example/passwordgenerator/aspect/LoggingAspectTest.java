@@ -0,0 +1,113 @@
+package com.example.passwordgenerator.aspect;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.example.passwordgenerator.controller.PasswordController;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class LoggingAspectTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(LoggingAspect.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private Signature signature;
+
+    @BeforeEach
+    public void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+        lenient().when(joinPoint.getSignature()).thenReturn(signature);
+        lenient().when(signature.getDeclaringType()).thenReturn(PasswordController.class);
+        lenient().when(signature.getName()).thenReturn("getAll");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    public void testLargeResultIsSummarized() throws Throwable {
+        when(joinPoint.proceed()).thenReturn(ResponseEntity.ok(new ArrayList<>(List.of("secret1", "secret2"))));
+
+        new LoggingAspect(new LoggingProperties()).logCall(joinPoint);
+
+        assertEquals(1, appender.list.size());
+        String message = appender.list.get(0).getFormattedMessage();
+        assertTrue(message.contains("PasswordController.getAll"));
+        assertTrue(message.contains("200 ArrayList[size=2]"), message);
+        assertFalse(message.contains("secret"));
+    }
+
+    @Test
+    public void testEndpointSampleRateSuppressesFastCalls() throws Throwable {
+        LoggingProperties properties = new LoggingProperties();
+        properties.setEndpointSampleRates(Map.of("PasswordController.getAll", 0.0));
+        when(joinPoint.proceed()).thenReturn(List.of());
+
+        new LoggingAspect(properties).logCall(joinPoint);
+
+        assertTrue(appender.list.isEmpty());
+    }
+
+    @Test
+    public void testSlowCallIsLoggedDespiteSampling() throws Throwable {
+        LoggingProperties properties = new LoggingProperties();
+        properties.setSampleRate(0.0);
+        properties.setSlowThreshold(Duration.ZERO);
+        when(joinPoint.proceed()).thenReturn(42L);
+
+        new LoggingAspect(properties).logCall(joinPoint);
+
+        assertEquals(Level.WARN, appender.list.get(0).getLevel());
+        assertTrue(appender.list.get(0).getFormattedMessage().contains("Long[42]"));
+    }
+
+    @Test
+    public void testErrorIsLoggedAndRethrown() throws Throwable {
+        LoggingProperties properties = new LoggingProperties();
+        properties.setSampleRate(0.0);
+        when(joinPoint.proceed()).thenThrow(new IllegalArgumentException("bad"));
+
+        LoggingAspect aspect = new LoggingAspect(properties);
+        assertThrows(IllegalArgumentException.class, () -> aspect.logCall(joinPoint));
+
+        assertEquals(Level.ERROR, appender.list.get(0).getLevel());
+    }
+
+    @Test
+    public void testEndpointRatesBindFromProperties() {
+        LoggingProperties properties = new Binder(new MapConfigurationPropertySource(Map.of(
+                "password.logging.endpoint-sample-rates[PasswordController.getAll]", "0.1")))
+                .bind("password.logging", LoggingProperties.class).get();
+
+        assertEquals(0.1, properties.sampleRateFor("PasswordController.getAll"));
+        assertEquals(1.0, properties.sampleRateFor("PasswordController.getById"));
+    }
+}
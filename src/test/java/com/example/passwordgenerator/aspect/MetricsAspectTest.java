@@ -0,0 +1,43 @@
+package com.example.passwordgenerator.aspect;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MetricsAspectTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MetricsAspect aspect = new MetricsAspect(registry);
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Test
+    public void testGenerationIsTimed() throws Throwable {
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            assertEquals(1.0, registry.get("password.generation.in-flight").gauge().value());
+            return "password";
+        });
+
+        assertEquals("password", aspect.timeGeneration(joinPoint));
+
+        assertEquals(1, registry.get("password.generation").timer().count());
+        assertEquals(0.0, registry.get("password.generation.in-flight").gauge().value());
+    }
+
+    @Test
+    public void testFailedHashingIsStillTimed() throws Throwable {
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("boom"));
+
+        assertThrows(IllegalStateException.class, () -> aspect.timeHashing(joinPoint));
+
+        assertEquals(1, registry.get("password.hashing").timer().count());
+    }
+}
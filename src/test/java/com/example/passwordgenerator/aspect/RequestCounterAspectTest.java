@@ -1,8 +1,10 @@
 package com.example.passwordgenerator.aspect;
 
 import com.example.passwordgenerator.counter.RequestCounterInterface;
+import com.example.passwordgenerator.counter.RequestCounterInterface.Operation;
+import com.example.passwordgenerator.counter.RequestCounterInterface.Outcome;
 import com.example.passwordgenerator.dto.PasswordGenerationRequest;
-import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.Signature;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +15,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,7 +28,7 @@ public class RequestCounterAspectTest {
     private RequestCounterInterface requestCounter;
 
     @Mock
-    private JoinPoint joinPoint;
+    private ProceedingJoinPoint joinPoint;
 
     @Mock
     private Signature signature;
@@ -36,35 +39,71 @@ public class RequestCounterAspectTest {
     }
 
     @Test
-    public void testSinglePasswordGeneration() {
+    public void testSinglePasswordGeneration() throws Throwable {
         when(joinPoint.getSignature()).thenReturn(signature);
         when(signature.getName()).thenReturn("generatePassword");
+        when(joinPoint.getArgs()).thenReturn(new Object[]{8, 2, "user1"});
+        when(joinPoint.proceed()).thenReturn("password");
 
-        aspect.countPasswordGeneration(joinPoint);
+        assertEquals("password", aspect.countPasswordGeneration(joinPoint));
 
-        verify(requestCounter, times(1)).increment();
+        verify(requestCounter).record(Operation.SINGLE, 2, Outcome.SUCCESS, 1);
         verifyNoMoreInteractions(requestCounter);
     }
 
     @Test
-    public void testBulkPasswordGeneration() {
+    public void testBulkPasswordGeneration() throws Throwable {
         List<PasswordGenerationRequest> requests = List.of(
                 new PasswordGenerationRequest(8, 2, "user1"),
-                new PasswordGenerationRequest(10, 3, "user2")
+                new PasswordGenerationRequest(10, 3, "user2"),
+                new PasswordGenerationRequest(12, 3, "user3")
         );
 
         when(joinPoint.getSignature()).thenReturn(signature);
         when(signature.getName()).thenReturn("generatePasswordsBulk");
         when(joinPoint.getArgs()).thenReturn(new Object[]{requests});
+        when(joinPoint.proceed()).thenReturn(List.of("a", "b", "c"));
 
         aspect.countPasswordGeneration(joinPoint);
 
-        verify(requestCounter, times(2)).increment();
+        verify(requestCounter).record(Operation.BULK, 2, Outcome.SUCCESS, 1);
+        verify(requestCounter).record(Operation.BULK, 3, Outcome.SUCCESS, 2);
+        verifyNoMoreInteractions(requestCounter);
+    }
+
+    @Test
+    public void testStreamedChunkCountedAsBulk() throws Throwable {
+        List<PasswordGenerationRequest> requests = List.of(
+                new PasswordGenerationRequest(8, 1, "user1"),
+                new PasswordGenerationRequest(8, 1, "user1")
+        );
+
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getName()).thenReturn("generatePasswordsBatch");
+        when(joinPoint.getArgs()).thenReturn(new Object[]{requests});
+        when(joinPoint.proceed()).thenReturn(List.of("a", "b"));
+
+        aspect.countPasswordGeneration(joinPoint);
+
+        verify(requestCounter).record(Operation.BULK, 1, Outcome.SUCCESS, 2);
+        verifyNoMoreInteractions(requestCounter);
+    }
+
+    @Test
+    public void testFailedGenerationCountedAsFailure() throws Throwable {
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getName()).thenReturn("generatePassword");
+        when(joinPoint.getArgs()).thenReturn(new Object[]{2, 7, "user1"});
+        when(joinPoint.proceed()).thenThrow(new IllegalArgumentException("bad"));
+
+        assertThrows(IllegalArgumentException.class, () -> aspect.countPasswordGeneration(joinPoint));
+
+        verify(requestCounter).record(Operation.SINGLE, 7, Outcome.FAILURE, 1);
         verifyNoMoreInteractions(requestCounter);
     }
 
     @Test
-    public void testOtherMethodsNotCounted() {
+    public void testOtherMethodsNotCounted() throws Throwable {
         when(joinPoint.getSignature()).thenReturn(signature);
         when(signature.getName()).thenReturn("create");
 
@@ -72,4 +111,4 @@ public class RequestCounterAspectTest {
 
         verifyNoInteractions(requestCounter);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,97 @@
+package com.example.passwordgenerator.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CacheRegionTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void testGetReturnsStoredValue() {
+        CacheRegion<String, String> region = region(10, Duration.ZERO);
+        region.put("key", "value");
+        assertEquals("value", region.get("key").orElseThrow());
+        assertTrue(region.get("missing").isEmpty());
+        CacheStats stats = region.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(0.5, stats.hitRate());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntriesAreEvicted() {
+        CacheRegion<Integer, String> region = region(10, Duration.ZERO);
+        for (int i = 0; i < 10; i++) {
+            region.put(i, "value" + i);
+            clock.incrementAndGet();
+        }
+        region.get(0);
+        clock.incrementAndGet();
+        region.put(10, "value10");
+
+        assertTrue(region.stats().size() <= 10);
+        assertTrue(region.get(0).isPresent());
+        assertTrue(region.get(10).isPresent());
+        assertTrue(region.get(1).isEmpty());
+        assertTrue(region.stats().evictions() > 0);
+    }
+
+    @Test
+    public void testExpiredEntriesAreDropped() {
+        CacheRegion<String, String> region = region(10, Duration.ofNanos(100));
+        region.put("key", "value");
+        clock.addAndGet(99);
+        assertTrue(region.get("key").isPresent());
+        clock.addAndGet(1);
+        assertTrue(region.get("key").isEmpty());
+        assertEquals(1, region.stats().evictions());
+        assertEquals(0, region.stats().size());
+    }
+
+    @Test
+    public void testWeightBoundsListRegion() {
+        CacheRegion<String, List<Integer>> region =
+                new CacheRegion<>("lists", 10, Duration.ZERO, List::size, clock::get);
+        region.put("a", List.of(1, 2, 3, 4));
+        clock.incrementAndGet();
+        region.put("b", List.of(1, 2, 3, 4));
+        clock.incrementAndGet();
+        region.put("c", List.of(1, 2, 3, 4));
+
+        assertTrue(region.stats().weight() <= 10);
+        assertTrue(region.get("a").isEmpty());
+        assertTrue(region.get("c").isPresent());
+    }
+
+    @Test
+    public void testOversizedValueIsNotCached() {
+        CacheRegion<String, List<Integer>> region =
+                new CacheRegion<>("lists", 2, Duration.ZERO, List::size, clock::get);
+        region.put("a", List.of(1));
+        region.put("a", List.of(1, 2, 3));
+        assertTrue(region.get("a").isEmpty());
+        assertEquals(0, region.stats().weight());
+    }
+
+    @Test
+    public void testInvalidateAndClear() {
+        CacheRegion<String, String> region = region(10, Duration.ZERO);
+        region.put("a", "1");
+        region.put("b", "2");
+        region.invalidate("a");
+        assertTrue(region.get("a").isEmpty());
+        region.clear();
+        assertTrue(region.get("b").isEmpty());
+        assertEquals(0, region.stats().weight());
+    }
+
+    private <K> CacheRegion<K, String> region(long maxSize, Duration ttl) {
+        return new CacheRegion<>("test", maxSize, ttl, value -> 1, clock::get);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.passwordgenerator.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DataVersionTest {
+
+    @Test
+    public void testBumpChangesEtag() {
+        DataVersion dataVersion = new DataVersion(1000L);
+        String before = dataVersion.etag();
+
+        assertEquals(1, dataVersion.bump());
+
+        assertEquals(1, dataVersion.current());
+        assertNotEquals(before, dataVersion.etag());
+        assertTrue(dataVersion.etag().startsWith("W/\""));
+    }
+
+    @Test
+    public void testPutIsSkippedAfterAWrite() {
+        DataVersion dataVersion = new DataVersion(1000L);
+        long version = dataVersion.current();
+        AtomicInteger puts = new AtomicInteger();
+
+        assertTrue(dataVersion.putIfCurrent(version, puts::incrementAndGet));
+        assertEquals(1, dataVersion.bump(puts::incrementAndGet));
+        assertFalse(dataVersion.putIfCurrent(version, puts::incrementAndGet));
+
+        assertEquals(2, puts.get());
+    }
+
+    @Test
+    public void testEtagsDifferAcrossRestarts() {
+        assertNotEquals(new DataVersion(1000L).etag(), new DataVersion(2000L).etag());
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.passwordgenerator.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongKeyedTableTest {
+
+    @Test
+    public void testMatchesMapUnderRandomWritesAndRemovals() {
+        LongKeyedTable<String> table = new LongKeyedTable<>(1_000);
+        Map<Long, String> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 50_000; i++) {
+            long key = random.nextInt(600) - 300;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key) != null, table.remove(key));
+            } else {
+                table.put(key, "v" + i);
+                expected.put(key, "v" + i);
+            }
+        }
+        for (long key = -300; key < 300; key++) {
+            assertEquals(expected.get(key), table.get(key));
+        }
+        assertEquals(expected.size(), table.size());
+    }
+
+    @Test
+    public void testEvictsInInsertionOrder() {
+        LongKeyedTable<String> table = new LongKeyedTable<>(3);
+        table.put(1L, "a");
+        table.put(2L, "b");
+        table.put(3L, "c");
+
+        assertTrue(table.put(4L, "d"));
+
+        assertNull(table.get(1L));
+        assertEquals(3, table.size());
+    }
+
+    @Test
+    public void testReplacedEntryIsNotEvictedByItsOlderSlot() {
+        LongKeyedTable<String> table = new LongKeyedTable<>(3);
+        table.put(1L, "a");
+        table.put(2L, "b");
+        table.put(1L, "a2");
+
+        assertFalse(table.put(3L, "c"));
+        assertTrue(table.put(4L, "d"));
+
+        assertNull(table.get(2L));
+        assertEquals("a2", table.get(1L));
+        assertEquals(3, table.size());
+    }
+
+    @Test
+    public void testBulkRemovalAndClear() {
+        LongKeyedTable<String> table = new LongKeyedTable<>(16);
+        for (long key = 0; key < 10; key++) {
+            table.put(key, "v" + key);
+        }
+
+        table.removeAll(List.of(1L, 3L, 5L, 42L));
+
+        assertNull(table.get(3L));
+        assertEquals("v4", table.get(4L));
+        assertEquals(7, table.size());
+
+        table.clear();
+        assertNull(table.get(4L));
+        assertEquals(0, table.size());
+    }
+}
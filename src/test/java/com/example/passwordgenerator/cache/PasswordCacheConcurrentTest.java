@@ -0,0 +1,93 @@
+package com.example.passwordgenerator.cache;
+
+import com.example.passwordgenerator.entity.Password;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordCacheConcurrentTest {
+
+    private static final int THREADS = 8;
+    private static final int OPERATIONS = 20_000;
+    private static final int MAX_ENTRIES = 500;
+
+    @Test
+    public void testConcurrentReadWriteStaysBoundedAndConsistent() throws Exception {
+        PasswordCacheProperties properties = new PasswordCacheProperties();
+        properties.setById(new PasswordCacheProperties.Region(MAX_ENTRIES, Duration.ofMinutes(1)));
+        properties.setGenerated(new PasswordCacheProperties.Region(MAX_ENTRIES, Duration.ofMinutes(1)));
+        PasswordCache cache = new PasswordCache(properties);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                int lookups = 0;
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < OPERATIONS; i++) {
+                    long id = random.nextInt(MAX_ENTRIES * 4);
+                    if (random.nextBoolean()) {
+                        cache.putPasswordById(id, new Password("pass" + id, "owner"));
+                        cache.putGeneratedPassword("key" + id, "pass" + id);
+                    } else {
+                        cache.getPasswordById(id).ifPresent(p -> assertEquals("pass" + id, p.getPassword()));
+                        cache.getGeneratedPassword("key" + id).ifPresent(p -> assertEquals("pass" + id, p));
+                        lookups += 2;
+                    }
+                }
+                return lookups;
+            }));
+        }
+        start.countDown();
+
+        long lookups = 0;
+        for (Future<Integer> result : results) {
+            lookups += result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        long recorded = 0;
+        for (CacheStats stats : cache.getStatistics()) {
+            assertTrue(stats.size() <= MAX_ENTRIES + THREADS, stats.region() + " size " + stats.size());
+            assertEquals(stats.size(), stats.weight(), stats.region());
+            recorded += stats.hits() + stats.misses();
+        }
+        assertEquals(lookups, recorded);
+        assertTrue(cache.getStatistics().stream().mapToLong(CacheStats::evictions).sum() > 0);
+    }
+
+    @Test
+    public void testClearUnderConcurrentWrites() throws Exception {
+        PasswordCache cache = new PasswordCache();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> results = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            results.add(executor.submit(() -> {
+                for (int i = 0; i < OPERATIONS; i++) {
+                    cache.putPasswordById((long) i, new Password("pass", "owner"));
+                    if (i % 1000 == 0) {
+                        cache.clearDatabaseCache();
+                    }
+                }
+            }));
+        }
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        cache.clearDatabaseCache();
+        assertTrue(cache.getPasswordById(1L).isEmpty());
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.passwordgenerator.cache;
+
+import com.example.passwordgenerator.entity.Password;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordCacheInvalidationTest {
+
+    private PasswordCache cache;
+    private Password first;
+    private Password second;
+
+    @BeforeEach
+    public void setUp() {
+        cache = new PasswordCache();
+        first = password(1L, "hash1");
+        second = password(2L, "hash2");
+        cache.putAllPasswords(List.of(first, second));
+        cache.putPasswordById(1L, first);
+        cache.putPasswordById(2L, second);
+        cache.putPasswordsByTag("work", List.of(first));
+        cache.putPasswordsByTag("home", List.of(second));
+    }
+
+    @Test
+    public void testRefreshEvictsOnlyAffectedEntries() {
+        Password updated = password(1L, "hash1b");
+        cache.refreshPassword(updated);
+
+        assertTrue(cache.getPasswordById(1L).isEmpty());
+        assertTrue(cache.getPasswordById(2L).isPresent());
+        assertTrue(cache.getPasswordsByTag("work").isEmpty());
+        assertTrue(cache.getPasswordsByTag("home").isPresent());
+        assertEquals(List.of(updated, second), cache.getAllPasswords().orElseThrow());
+    }
+
+    @Test
+    public void testReplaceSwapsOrDropsTheCachedRow() {
+        Password reloaded = password(1L, "hash1b");
+        cache.replacePassword(1L, Optional.of(reloaded));
+
+        assertTrue(cache.getPasswordById(1L).isEmpty());
+        assertTrue(cache.getPasswordsByTag("work").isEmpty());
+        assertEquals(List.of(reloaded, second), cache.getAllPasswords().orElseThrow());
+
+        cache.replacePassword(2L, Optional.empty());
+        assertEquals(List.of(reloaded), cache.getAllPasswords().orElseThrow());
+    }
+
+    @Test
+    public void testCreateAppendsToAllPasswords() {
+        Password created = password(3L, "hash3");
+        cache.refreshPasswords(List.of(created));
+
+        assertEquals(List.of(first, second, created), cache.getAllPasswords().orElseThrow());
+        assertTrue(cache.getPasswordsByTag("work").isPresent());
+        assertTrue(cache.getPasswordsByTag("home").isPresent());
+    }
+
+    @Test
+    public void testAllPasswordsSnapshotIsReusedUntilChanged() {
+        List<Password> firstRead = cache.getAllPasswords().orElseThrow();
+
+        assertSame(firstRead, cache.getAllPasswords().orElseThrow());
+
+        cache.evictPassword(1L);
+        List<Password> afterEvict = cache.getAllPasswords().orElseThrow();
+        assertNotSame(firstRead, afterEvict);
+        assertEquals(List.of(second), afterEvict);
+        assertEquals(List.of(first, second), firstRead);
+    }
+
+    @Test
+    public void testEvictRemovesFromAllPasswords() {
+        cache.evictPassword(2L);
+
+        assertEquals(List.of(first), cache.getAllPasswords().orElseThrow());
+        assertTrue(cache.getPasswordById(2L).isEmpty());
+        assertTrue(cache.getPasswordsByTag("home").isEmpty());
+        assertTrue(cache.getPasswordsByTag("work").isPresent());
+    }
+
+    @Test
+    public void testTagAssignmentEvictsAffectedEntries() {
+        cache.putPasswordsByTag("travel", List.of());
+
+        cache.evictTagAssignments(List.of("travel"), List.of(2L));
+
+        assertTrue(cache.getPasswordsByTag("travel").isEmpty());
+        assertTrue(cache.getPasswordsByTag("home").isEmpty());
+        assertTrue(cache.getPasswordsByTag("work").isPresent());
+        assertTrue(cache.getPasswordById(2L).isEmpty());
+        assertTrue(cache.getPasswordById(1L).isPresent());
+        assertTrue(cache.getAllPasswords().isEmpty());
+    }
+
+    @Test
+    public void testReloadedTagListIsIndexedAgain() {
+        cache.evictPassword(1L);
+        cache.putPasswordsByTag("work", List.of(second));
+        cache.refreshPassword(password(2L, "hash2b"));
+
+        assertTrue(cache.getPasswordsByTag("work").isEmpty());
+        assertTrue(cache.getPasswordsByTag("home").isEmpty());
+    }
+
+    @Test
+    public void testEvictPasswordsByTag() {
+        cache.evictPasswordsByTag("work");
+
+        assertTrue(cache.getPasswordsByTag("work").isEmpty());
+        assertTrue(cache.getPasswordsByTag("home").isPresent());
+        assertTrue(cache.getPasswordById(1L).isPresent());
+    }
+
+    private static Password password(Long id, String hash) {
+        Password password = new Password(hash, "owner");
+        password.setId(id);
+        return password;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.passwordgenerator.cache;
+
+import com.example.passwordgenerator.dto.TagSummary;
+import com.example.passwordgenerator.entity.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TagCacheNameIndexTest {
+
+    @Test
+    public void testLookupBeforeLoadIsUnknown() {
+        assertEquals(Optional.empty(), new TagCache().findTagIds("work"));
+    }
+
+    @Test
+    public void testIndexFollowsWrites() {
+        TagCache cache = new TagCache();
+        assertTrue(cache.loadNameIndex(List.of(new TagSummary(1L, "work")), cache.nameIndexVersion()));
+
+        cache.refreshTag(tag(2L, "home"));
+        cache.refreshTag(tag(1L, "office"));
+        cache.evictTag(2L);
+
+        assertEquals(Optional.of(Set.of()), cache.findTagIds("work"));
+        assertEquals(Optional.of(Set.of(1L)), cache.findTagIds("office"));
+        assertEquals(Optional.of(Set.of()), cache.findTagIds("home"));
+    }
+
+    @Test
+    public void testStaleLoadIsRejected() {
+        TagCache cache = new TagCache();
+        long version = cache.nameIndexVersion();
+        cache.evictTag(1L);
+
+        assertFalse(cache.loadNameIndex(List.of(new TagSummary(1L, "work")), version));
+        assertEquals(Optional.empty(), cache.findTagIds("work"));
+    }
+
+    @Test
+    public void testCaseInsensitiveMode() {
+        TagCache cache = new TagCache(true);
+        cache.loadNameIndex(List.of(new TagSummary(1L, "Work"), new TagSummary(2L, "WORK")),
+                cache.nameIndexVersion());
+
+        assertEquals(Optional.of(Set.of(1L, 2L)), cache.findTagIds("work"));
+        assertEquals("work", cache.nameKey("WoRk"));
+
+        TagCache caseSensitive = new TagCache();
+        caseSensitive.loadNameIndex(List.of(new TagSummary(1L, "Work")), caseSensitive.nameIndexVersion());
+        assertEquals(Optional.of(Set.of()), caseSensitive.findTagIds("work"));
+    }
+
+    @Test
+    public void testClearForgetsIndex() {
+        TagCache cache = new TagCache();
+        cache.loadNameIndex(List.of(new TagSummary(1L, "work")), cache.nameIndexVersion());
+
+        cache.clearCache();
+
+        assertEquals(Optional.empty(), cache.findTagIds("work"));
+    }
+
+    private static Tag tag(Long id, String name) {
+        Tag tag = new Tag(name);
+        tag.setId(id);
+        return tag;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.passwordgenerator.cache;
+
+import com.example.passwordgenerator.entity.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TagCacheTest {
+
+    @Test
+    public void testLookupsById() {
+        TagCache cache = new TagCache();
+        cache.putTagById(1L, tag(1L, "work"));
+        cache.putTagById(1L, tag(1L, "office"));
+        cache.putTagById(-5L, tag(-5L, "negative"));
+
+        assertEquals("office", cache.getTagById(1L).orElseThrow().getName());
+        assertEquals("negative", cache.getTagById(-5L).orElseThrow().getName());
+        assertEquals(Optional.empty(), cache.getTagById(2L));
+        assertEquals(2, cache.stats().size());
+    }
+
+    @Test
+    public void testBulkLookupReturnsOnlyCachedTags() {
+        TagCache cache = new TagCache();
+        cache.putTags(List.of(tag(1L, "a"), tag(2L, "b"), tag(3L, "c")));
+
+        List<Tag> found = cache.getTagsByIds(List.of(1L, 3L, 4L));
+
+        assertEquals(List.of("a", "c"), found.stream().map(Tag::getName).toList());
+        assertEquals(2, cache.stats().hits());
+        assertEquals(1, cache.stats().misses());
+    }
+
+    @Test
+    public void testOldestEntriesAreEvictedAtCapacity() {
+        TagCache cache = new TagCache(false, 3);
+        for (long id = 1; id <= 5; id++) {
+            cache.putTagById(id, tag(id, "t" + id));
+        }
+
+        assertEquals(Optional.empty(), cache.getTagById(1L));
+        assertEquals(Optional.empty(), cache.getTagById(2L));
+        assertTrue(cache.getTagById(5L).isPresent());
+        assertEquals(3, cache.stats().size());
+        assertEquals(2, cache.stats().evictions());
+    }
+
+    @Test
+    public void testOversizedListIsNotCached() {
+        TagCache cache = new TagCache(false, 1);
+        cache.putAllTags(List.of(tag(1L, "a"), tag(2L, "b")));
+
+        assertEquals(Optional.empty(), cache.getAllTags());
+    }
+
+    @Test
+    public void testWritesUpdateSnapshotAndById() {
+        TagCache cache = new TagCache();
+        cache.putAllTags(List.of(tag(1L, "a"), tag(2L, "b")));
+        cache.putTagById(1L, tag(1L, "a"));
+
+        cache.refreshTag(tag(1L, "renamed"));
+        cache.evictTag(2L);
+
+        assertEquals(Optional.empty(), cache.getTagById(1L));
+        assertEquals(List.of("renamed"), cache.getAllTags().orElseThrow().stream().map(Tag::getName).toList());
+
+        cache.clearCache();
+        assertEquals(Optional.empty(), cache.getAllTags());
+        assertEquals(0, cache.stats().size());
+    }
+
+    @Test
+    public void testConcurrentReadsDuringWrites() throws Exception {
+        TagCache cache = new TagCache(false, 64);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < 3; r++) {
+                readers.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        long id = i % 128;
+                        cache.getTagById(id).ifPresent(tag -> assertEquals(id, tag.getId()));
+                    }
+                }));
+            }
+            for (long id = 0; id < 2_000; id++) {
+                cache.putTagById(id % 128, tag(id % 128, "t"));
+            }
+            for (Future<?> reader : readers) {
+                reader.get(30, TimeUnit.SECONDS);
+            }
+            assertTrue(cache.stats().size() <= 64);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Tag tag(Long id, String name) {
+        Tag tag = new Tag(name);
+        tag.setId(id);
+        return tag;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.passwordgenerator.controller;
+
+import com.example.passwordgenerator.cache.CacheStats;
+import com.example.passwordgenerator.cache.PasswordCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private PasswordCache passwordCache;
+
+    @InjectMocks
+    private CacheController cacheController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(cacheController)
+                .build();
+    }
+
+    @Test
+    void testGetStatistics() throws Exception {
+        when(passwordCache.getStatistics()).thenReturn(List.of(new CacheStats("byId", 3, 1, 2, 5, 5)));
+
+        mockMvc.perform(get("/api/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].region").value("byId"))
+                .andExpect(jsonPath("$[0].hits").value(3))
+                .andExpect(jsonPath("$[0].misses").value(1))
+                .andExpect(jsonPath("$[0].evictions").value(2));
+
+        verify(passwordCache).getStatistics();
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.passwordgenerator.controller;
 
+import com.example.passwordgenerator.counter.CounterSnapshot;
 import com.example.passwordgenerator.service.CounterService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.Map;
+
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -46,6 +49,20 @@ class CounterControllerTest {
         verify(counterService).getRequestCount();
     }
 
+    @Test
+    void testGetSnapshot() throws Exception {
+        when(counterService.getSnapshot()).thenReturn(new CounterSnapshot(5L,
+                Map.of("single", 2L, "bulk", 3L), Map.of("3", 5L), Map.of("success", 4L, "failure", 1L)));
+
+        mockMvc.perform(get("/api/counter/snapshot")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(5))
+                .andExpect(jsonPath("$.byOperation.bulk").value(3))
+                .andExpect(jsonPath("$.byComplexity.3").value(5))
+                .andExpect(jsonPath("$.byOutcome.failure").value(1));
+    }
+
     @Test
     void testResetCount() throws Exception {
         doNothing().when(counterService).resetRequestCount();
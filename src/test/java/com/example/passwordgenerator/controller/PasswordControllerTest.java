@@ -1,23 +1,37 @@
 package com.example.passwordgenerator.controller;
 
+import com.example.passwordgenerator.cache.DataVersion;
 import com.example.passwordgenerator.dto.PasswordGenerationRequest;
+import com.example.passwordgenerator.dto.PasswordPage;
+import com.example.passwordgenerator.dto.PasswordSummary;
 import com.example.passwordgenerator.entity.Password;
+import com.example.passwordgenerator.exception.GlobalExceptionHandler;
+import com.example.passwordgenerator.service.BulkGenerationStreamService;
 import com.example.passwordgenerator.service.PasswordService;
+import com.example.passwordgenerator.service.PasswordWriteBehindService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -30,13 +44,24 @@ class PasswordControllerTest {
     @Mock
     private PasswordService passwordService;
 
-    @InjectMocks
-    private PasswordController passwordController;
+    @Mock
+    private BulkGenerationStreamService bulkGenerationStreamService;
+
+    @Mock
+    private PasswordWriteBehindService writeBehindService;
+
+    @Spy
+    private DataVersion dataVersion = new DataVersion();
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    private PasswordController passwordController;
 
     @BeforeEach
     void setUp() {
+        passwordController = new PasswordController(passwordService, writeBehindService, dataVersion,
+                new JsonStreaming(objectMapper, bulkGenerationStreamService));
         mockMvc = MockMvcBuilders
                 .standaloneSetup(passwordController)
                 .build();
@@ -45,8 +70,6 @@ class PasswordControllerTest {
     @Test
     void testGeneratePassword() throws Exception {
         when(passwordService.generatePassword(8, 2, "user1")).thenReturn("password1");
-        when(passwordService.create(any(Password.class)))
-                .thenReturn(new Password("password1", "user1"));
 
         mockMvc.perform(get("/api/passwords/generate")
                         .param("length", "8")
@@ -56,7 +79,7 @@ class PasswordControllerTest {
                 .andExpect(content().string("✅ Пароль для user1: password1"));
 
         verify(passwordService).generatePassword(8, 2, "user1");
-        verify(passwordService).create(any(Password.class));
+        verify(writeBehindService).persist(any(Password.class));
     }
 
     @Test
@@ -78,6 +101,22 @@ class PasswordControllerTest {
         verify(passwordService).generatePasswordsBulk(requests);
     }
 
+    @Test
+    void testGeneratePasswordsBulkAsCbor() throws Exception {
+        var requests = List.of(new PasswordGenerationRequest(8, 2, "user1"));
+        when(passwordService.generatePasswordsBulk(anyList())).thenReturn(List.of("pwd1"));
+
+        byte[] body = mockMvc.perform(post("/api/passwords/generate-bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertArrayEquals(new String[]{"pwd1"}, new CBORMapper().readValue(body, String[].class));
+    }
+
     @Test
     void testGetAllPasswords() throws Exception {
         var p1 = new Password("p1","u1"); p1.setId(1L);
@@ -151,4 +190,149 @@ class PasswordControllerTest {
 
         verify(passwordService).delete(3L);
     }
+
+    @Test
+    void testGetPasswordPage() throws Exception {
+        var p1 = new Password("p1", "u1"); p1.setId(11L);
+        var p2 = new Password("p2", "u2"); p2.setId(12L);
+        when(passwordService.findPage(10L, 2)).thenReturn(new PasswordPage(List.of(p1, p2), 12L));
+
+        mockMvc.perform(get("/api/passwords").param("after", "10").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(11))
+                .andExpect(jsonPath("$.items[1].id").value(12))
+                .andExpect(jsonPath("$.nextAfter").value(12));
+
+        verify(passwordService).findPage(10L, 2);
+        verify(passwordService, never()).findAll();
+    }
+
+    @Test
+    void testStreamAllPasswords() throws Exception {
+        var p1 = new PasswordSummary(1L, "p1", "u1");
+        var p2 = new PasswordSummary(2L, "p2", "u2");
+        doAnswer(invocation -> {
+            Consumer<PasswordSummary> consumer = invocation.getArgument(0);
+            consumer.accept(p1);
+            consumer.accept(p2);
+            return null;
+        }).when(passwordService).streamAll(any());
+
+        var result = mockMvc.perform(get("/api/passwords/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[1].id").value(2))
+                .andExpect(jsonPath("$[1].owner").value("u2"));
+    }
+
+    @Test
+    void testGeneratePasswordsBulkStream() throws Exception {
+        when(bulkGenerationStreamService.generate(any(), any())).thenAnswer(invocation -> {
+            Iterator<PasswordGenerationRequest> requests = invocation.getArgument(0);
+            Consumer<String> sink = invocation.getArgument(1);
+            int count = 0;
+            while (requests.hasNext()) {
+                PasswordGenerationRequest request = requests.next();
+                sink.accept(request.getOwner() + "-pwd");
+                count++;
+            }
+            return count;
+        });
+        var requests = List.of(
+                new PasswordGenerationRequest(8, 2, "user1"),
+                new PasswordGenerationRequest(10, 3, "user2")
+        );
+
+        var result = mockMvc.perform(post("/api/passwords/generate-bulk/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("\"user1-pwd\"\n\"user2-pwd\"\n"));
+    }
+
+    @Test
+    void testGeneratePasswordsBulkStreamEndsWithErrorWhenPersistFails() throws Exception {
+        when(bulkGenerationStreamService.generate(any(), any())).thenAnswer(invocation -> {
+            Consumer<String> sink = invocation.getArgument(1);
+            sink.accept("pwd1");
+            throw new IllegalStateException("database unavailable");
+        });
+
+        var result = mockMvc.perform(post("/api/passwords/generate-bulk/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(new PasswordGenerationRequest(8, 2, "u1")))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertEquals("\"pwd1\"", lines[0]);
+        assertTrue(lines[lines.length - 1].startsWith("{\"error\":"));
+    }
+
+    @Test
+    void testGeneratePasswordsBulkStreamRejectsNonArray() throws Exception {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(passwordController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        mockMvc.perform(post("/api/passwords/generate-bulk/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"length\": 8}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(bulkGenerationStreamService);
+    }
+
+    @Test
+    void testGetMissingPasswordWithCurrentEtagIsNotFound() throws Exception {
+        when(passwordService.findById(99L)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/passwords/99").header(HttpHeaders.IF_NONE_MATCH, dataVersion.etag()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testGetPasswordByIdNotModified() throws Exception {
+        Password password = new Password("p1", "u1");
+        password.setId(1L);
+        when(passwordService.findById(1L)).thenReturn(Optional.of(password));
+
+        mockMvc.perform(get("/api/passwords/1").header(HttpHeaders.IF_NONE_MATCH, dataVersion.etag()))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void testGetPasswordsByTagNotModified() throws Exception {
+        when(passwordService.findPasswordsByTagName("work")).thenReturn(List.of(new Password("p1", "u1")));
+
+        String etag = mockMvc.perform(get("/api/passwords/by-tag").param("tagName", "work"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/passwords/by-tag").param("tagName", "work")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(passwordService, times(1)).findPasswordsByTagName("work");
+
+        dataVersion.bump();
+        mockMvc.perform(get("/api/passwords/by-tag").param("tagName", "work")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        verify(passwordService, times(2)).findPasswordsByTagName("work");
+    }
 }
@@ -1,21 +1,30 @@
 package com.example.passwordgenerator.controller;
 
+import com.example.passwordgenerator.cache.DataVersion;
+import com.example.passwordgenerator.dto.TagAssignmentRequest;
+import com.example.passwordgenerator.dto.TagAssignmentResult;
 import com.example.passwordgenerator.entity.Tag;
 import com.example.passwordgenerator.service.TagService;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -29,6 +38,9 @@ class TagControllerTest {
     @Mock
     private TagService tagService;
 
+    @Spy
+    private DataVersion dataVersion = new DataVersion();
+
     @InjectMocks
     private TagController tagController;
 
@@ -57,6 +69,21 @@ class TagControllerTest {
         verify(tagService).findAll();
     }
 
+    @Test
+    void testGetAllTagsAsCbor() throws Exception {
+        Tag t1 = new Tag("tag1"); t1.setId(1L);
+        when(tagService.findAll()).thenReturn(List.of(t1));
+
+        byte[] body = mockMvc.perform(get("/api/tags").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode tags = new CBORMapper().readTree(body);
+        assertEquals(1, tags.get(0).get("id").asLong());
+        assertEquals("tag1", tags.get(0).get("name").asText());
+    }
+
     @Test
     void testGetTagById() throws Exception {
         Tag t = new Tag("alpha"); t.setId(10L);
@@ -111,4 +138,45 @@ class TagControllerTest {
 
         verify(tagService).delete(4L);
     }
+
+    @Test
+    void testAttachAndDetachPasswords() throws Exception {
+        TagAssignmentRequest request = new TagAssignmentRequest(Set.of(1L), Set.of(2L, 3L));
+        when(tagService.attachPasswords(request)).thenReturn(new TagAssignmentResult(2));
+        when(tagService.detachPasswords(request)).thenReturn(new TagAssignmentResult(1));
+
+        mockMvc.perform(post("/api/tags/assignments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(2));
+        mockMvc.perform(delete("/api/tags/assignments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(1));
+    }
+
+    @Test
+    void testGetAllTagsNotModified() throws Exception {
+        when(tagService.findAll()).thenReturn(List.of(new Tag("tag1")));
+
+        String etag = mockMvc.perform(get("/api/tags"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/tags").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(tagService, times(1)).findAll();
+    }
+
+    @Test
+    void testGetMissingTagWithCurrentEtagIsNotFound() throws Exception {
+        when(tagService.findById(99L)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/tags/99").header(HttpHeaders.IF_NONE_MATCH, dataVersion.etag()))
+                .andExpect(status().isNotFound());
+    }
 }
@@ -0,0 +1,65 @@
+package com.example.passwordgenerator.counter;
+
+import com.example.passwordgenerator.counter.RequestCounterInterface.Operation;
+import com.example.passwordgenerator.counter.RequestCounterInterface.Outcome;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestCounterSnapshotTest {
+
+    private final RequestCounter counter = new RequestCounter();
+
+    @Test
+    public void testSnapshotBreaksDownByDimension() {
+        counter.record(Operation.SINGLE, 1, Outcome.SUCCESS, 1);
+        counter.record(Operation.BULK, 3, Outcome.SUCCESS, 10);
+        counter.record(Operation.BULK, 9, Outcome.FAILURE, 2);
+
+        CounterSnapshot snapshot = counter.snapshot();
+
+        assertEquals(13, snapshot.total());
+        assertEquals(1L, snapshot.byOperation().get("single"));
+        assertEquals(12L, snapshot.byOperation().get("bulk"));
+        assertEquals(1L, snapshot.byComplexity().get("1"));
+        assertEquals(0L, snapshot.byComplexity().get("2"));
+        assertEquals(10L, snapshot.byComplexity().get("3"));
+        assertEquals(2L, snapshot.byComplexity().get("other"));
+        assertEquals(11L, snapshot.byOutcome().get("success"));
+        assertEquals(2L, snapshot.byOutcome().get("failure"));
+    }
+
+    @Test
+    public void testAddAndReset() {
+        counter.add(5);
+        assertEquals(6, counter.increment());
+
+        counter.reset();
+
+        assertEquals(0, counter.getCount());
+        assertEquals(0L, counter.snapshot().byOperation().get("single"));
+    }
+
+    @Test
+    public void testConcurrentRecordsAreNotLost() throws InterruptedException {
+        int threads = 8;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < perThread; j++) {
+                    counter.record(Operation.SINGLE, 2, Outcome.SUCCESS, 1);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals((long) threads * perThread, counter.getCount());
+        assertEquals((long) threads * perThread, counter.snapshot().byComplexity().get("2"));
+    }
+}
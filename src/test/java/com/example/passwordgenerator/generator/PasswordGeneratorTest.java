@@ -0,0 +1,101 @@
+package com.example.passwordgenerator.generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordGeneratorTest {
+
+    private final PasswordGenerator generator = new PasswordGenerator(0);
+
+    @Test
+    public void testGeneratedLengthForEveryCombination() {
+        for (int complexity = PasswordGenerator.MIN_COMPLEXITY;
+             complexity <= PasswordGenerator.MAX_COMPLEXITY; complexity++) {
+            for (int length = PasswordGenerator.MIN_LENGTH; length <= PasswordGenerator.MAX_LENGTH; length++) {
+                assertEquals(length, generator.generate(length, complexity).length());
+            }
+        }
+    }
+
+    @Test
+    public void testCharactersStayWithinAlphabet() {
+        for (int complexity = PasswordGenerator.MIN_COMPLEXITY;
+             complexity <= PasswordGenerator.MAX_COMPLEXITY; complexity++) {
+            String alphabet = new String(PasswordGenerator.alphabet(complexity));
+            String password = generator.generate(PasswordGenerator.MAX_LENGTH, complexity);
+            assertTrue(password.chars().allMatch(c -> alphabet.indexOf(c) >= 0));
+        }
+    }
+
+    @Test
+    public void testGuaranteedCharacters() {
+        String letters = new String(PasswordGenerator.LETTERS);
+        String symbols = new String(PasswordGenerator.SYMBOLS);
+        for (int i = 0; i < 1000; i++) {
+            String password = generator.generate(PasswordGenerator.MIN_LENGTH, 3);
+            assertTrue(password.chars().anyMatch(Character::isDigit));
+            assertTrue(password.chars().anyMatch(c -> letters.indexOf(c) >= 0));
+            assertTrue(password.chars().anyMatch(c -> symbols.indexOf(c) >= 0));
+        }
+    }
+
+    @Test
+    public void testReseedKeepsProducingPasswords() {
+        PasswordGenerator reseeding = new PasswordGenerator(2);
+        Set<String> passwords = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            passwords.add(reseeding.generate(PasswordGenerator.MAX_LENGTH, 3));
+        }
+        assertEquals(100, passwords.size());
+    }
+
+    @Test
+    public void testBatchMatchesRequestedShapes() {
+        int size = PasswordGenerator.MAX_LENGTH - PasswordGenerator.MIN_LENGTH + 1;
+        int[] lengths = new int[size * PasswordGenerator.MAX_COMPLEXITY];
+        int[] complexities = new int[lengths.length];
+        for (int i = 0; i < lengths.length; i++) {
+            lengths[i] = PasswordGenerator.MIN_LENGTH + i % size;
+            complexities[i] = PasswordGenerator.MIN_COMPLEXITY + i / size;
+        }
+
+        List<String> passwords = generator.generateBatch(lengths, complexities);
+
+        assertEquals(lengths.length, passwords.size());
+        for (int i = 0; i < lengths.length; i++) {
+            String alphabet = new String(PasswordGenerator.alphabet(complexities[i]));
+            assertEquals(lengths[i], passwords.get(i).length());
+            assertTrue(passwords.get(i).chars().allMatch(c -> alphabet.indexOf(c) >= 0));
+        }
+    }
+
+    @Test
+    public void testBatchKeepsGuaranteedCharactersAndUniqueness() {
+        String letters = new String(PasswordGenerator.LETTERS);
+        String symbols = new String(PasswordGenerator.SYMBOLS);
+        int[] lengths = new int[5000];
+        int[] complexities = new int[lengths.length];
+        Arrays.fill(lengths, PasswordGenerator.MIN_LENGTH);
+        Arrays.fill(complexities, 3);
+
+        List<String> passwords = new PasswordGenerator(2).generateBatch(lengths, complexities);
+
+        for (String password : passwords) {
+            assertTrue(password.chars().anyMatch(Character::isDigit));
+            assertTrue(password.chars().anyMatch(c -> letters.indexOf(c) >= 0));
+            assertTrue(password.chars().anyMatch(c -> symbols.indexOf(c) >= 0));
+        }
+        assertTrue(new HashSet<>(passwords).size() > lengths.length * 9 / 10);
+    }
+
+    @Test
+    public void testEmptyBatch() {
+        assertEquals(List.of(), generator.generateBatch(new int[0], new int[0]));
+    }
+}
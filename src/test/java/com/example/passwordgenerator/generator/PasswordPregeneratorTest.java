@@ -0,0 +1,70 @@
+package com.example.passwordgenerator.generator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordPregeneratorTest {
+
+    private PasswordPregenerator pregenerator;
+
+    @AfterEach
+    public void tearDown() {
+        if (pregenerator != null) {
+            pregenerator.shutdown();
+        }
+    }
+
+    @Test
+    public void testDisabledGeneratesInline() {
+        pregenerator = new PasswordPregenerator(new PasswordGenerator(0));
+
+        assertEquals(12, pregenerator.next(12, 2).length());
+        assertEquals(0, pregenerator.stats().fallbacks());
+        assertEquals(0, pregenerator.stats().capacity());
+    }
+
+    @Test
+    public void testRefillServesFromBufferWithoutRepeats() throws InterruptedException {
+        pregenerator = new PasswordPregenerator(new PasswordGenerator(0), true, 64, 16, Duration.ofMillis(5));
+
+        assertEquals(10, pregenerator.next(10, 3).length());
+        assertEquals(1, pregenerator.stats().fallbacks());
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (pregenerator.stats().buffered() < 16 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(pregenerator.stats().buffered() >= 16);
+
+        Set<String> passwords = new HashSet<>();
+        for (int i = 0; i < 16; i++) {
+            String password = pregenerator.next(10, 3);
+            assertEquals(10, password.length());
+            assertTrue(passwords.add(password));
+        }
+        assertTrue(pregenerator.stats().hits() >= 16);
+        assertTrue(pregenerator.stats().refilled() >= 16);
+    }
+
+    @Test
+    public void testBuffersFollowRequestMix() {
+        pregenerator = new PasswordPregenerator(new PasswordGenerator(0), true, 256, 16, Duration.ofHours(1));
+        pregenerator.shutdown();
+
+        for (int cycle = 0; cycle < 5; cycle++) {
+            for (int i = 0; i < 40; i++) {
+                pregenerator.next(10, 3);
+            }
+            pregenerator.next(8, 1);
+            pregenerator.refillOnce();
+        }
+
+        assertEquals(16, pregenerator.buffered(8, 1));
+        assertTrue(pregenerator.buffered(10, 3) > 64, "hot pair: " + pregenerator.buffered(10, 3));
+    }
+}
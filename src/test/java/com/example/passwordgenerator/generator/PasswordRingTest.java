@@ -0,0 +1,72 @@
+package com.example.passwordgenerator.generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordRingTest {
+
+    @Test
+    public void testFifoAndBounds() {
+        PasswordRing ring = new PasswordRing(3);
+        assertEquals(4, ring.capacity());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ring.offer("p" + i));
+        }
+        assertFalse(ring.offer("overflow"));
+        assertEquals(4, ring.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals("p" + i, ring.poll());
+        }
+        assertNull(ring.poll());
+        assertEquals(0, ring.size());
+    }
+
+    @Test
+    public void testConcurrentConsumersNeverShareAPassword() throws InterruptedException {
+        int total = 200_000;
+        int consumers = 4;
+        PasswordRing ring = new PasswordRing(64);
+        Set<String> taken = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+        AtomicInteger consumed = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(consumers);
+        ExecutorService executor = Executors.newFixedThreadPool(consumers + 1);
+
+        executor.execute(() -> {
+            for (int i = 0; i < total; i++) {
+                String password = "p" + i;
+                while (!ring.offer(password)) {
+                    Thread.onSpinWait();
+                }
+            }
+        });
+        for (int c = 0; c < consumers; c++) {
+            executor.execute(() -> {
+                while (consumed.get() < total) {
+                    String password = ring.poll();
+                    if (password != null) {
+                        consumed.incrementAndGet();
+                        if (!taken.add(password)) {
+                            duplicates.incrementAndGet();
+                        }
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(60, TimeUnit.SECONDS));
+        executor.shutdownNow();
+        assertEquals(0, duplicates.get());
+        assertEquals(total, taken.size());
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.passwordgenerator.hashing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class PasswordHashingPipelineTest {
+
+    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordHashingPipeline pipeline;
+
+    @BeforeEach
+    public void setUp() {
+        passwordEncoder = mock(BCryptPasswordEncoder.class);
+        pipeline = new PasswordHashingPipeline(passwordEncoder, 4, 3);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pipeline.shutdown();
+    }
+
+    @Test
+    public void testEncodeAllPreservesOrder() {
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> "hash_" + invocation.getArgument(0));
+        List<String> raw = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            raw.add("pass" + i);
+        }
+        List<String> hashed = pipeline.encodeAll(raw);
+        assertEquals(100, hashed.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("hash_pass" + i, hashed.get(i));
+        }
+    }
+
+    @Test
+    public void testInFlightWorkIsCapped() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            running.decrementAndGet();
+            return "hash";
+        });
+        pipeline.encodeAll(List.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j"));
+        assertTrue(maxRunning.get() <= 3);
+    }
+
+    @Test
+    public void testEncoderFailureIsPropagated() {
+        when(passwordEncoder.encode("bad")).thenThrow(new IllegalArgumentException("bad password"));
+        when(passwordEncoder.encode("good")).thenReturn("hash");
+        assertThrows(IllegalArgumentException.class, () -> pipeline.encodeAll(List.of("good", "bad", "good")));
+        assertEquals(List.of("hash"), pipeline.encodeAll(List.of("good")));
+    }
+
+    @Test
+    public void testEncodeRunsOnHashingThread() {
+        when(passwordEncoder.encode("single")).thenAnswer(invocation -> Thread.currentThread().getName());
+        assertTrue(pipeline.encode("single").startsWith("password-hashing-"));
+        assertEquals(0, pipeline.inFlight());
+    }
+
+    @Test
+    public void testEmptyInput() {
+        assertTrue(pipeline.encodeAll(List.of()).isEmpty());
+        verifyNoInteractions(passwordEncoder);
+    }
+}
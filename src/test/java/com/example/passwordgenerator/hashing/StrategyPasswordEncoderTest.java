@@ -0,0 +1,107 @@
+package com.example.passwordgenerator.hashing;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StrategyPasswordEncoderTest {
+
+    private final HashingStrategyProperties properties = properties();
+
+    @Test
+    public void testHashRecordsAlgorithmAndCost() {
+        for (String algorithm : new String[]{HashingStrategies.BCRYPT, HashingStrategies.PBKDF2,
+                HashingStrategies.ARGON2}) {
+            StrategyPasswordEncoder encoder = encoder(algorithm, HashingStrategies.minCost(algorithm));
+
+            String hash = encoder.encode("secret");
+
+            assertTrue(hash.startsWith("{" + algorithm + ":" + HashingStrategies.minCost(algorithm) + "}"), hash);
+            assertTrue(encoder.matches("secret", hash));
+            assertFalse(encoder.matches("other", hash));
+            assertFalse(encoder.upgradeEncoding(hash));
+        }
+    }
+
+    @Test
+    public void testHashesSurviveStrategySwitch() {
+        String bcryptHash = encoder(HashingStrategies.BCRYPT, 4).encode("secret");
+        StrategyPasswordEncoder pbkdf2 = encoder(HashingStrategies.PBKDF2, 10_000);
+
+        assertTrue(pbkdf2.matches("secret", bcryptHash));
+        assertTrue(pbkdf2.upgradeEncoding(bcryptHash));
+    }
+
+    @Test
+    public void testLegacyBcryptHashesStillMatch() {
+        String legacy = new BCryptPasswordEncoder(4).encode("secret");
+        StrategyPasswordEncoder encoder = encoder(HashingStrategies.PBKDF2, 10_000);
+
+        assertTrue(encoder.matches("secret", legacy));
+        assertTrue(encoder.upgradeEncoding(legacy));
+    }
+
+    @Test
+    public void testMalformedHashesDoNotMatch() {
+        StrategyPasswordEncoder encoder = encoder(HashingStrategies.BCRYPT, 4);
+
+        assertFalse(encoder.matches("secret", ""));
+        assertFalse(encoder.matches("secret", "plain"));
+        assertFalse(encoder.matches("secret", "{bcrypt:x}hash"));
+    }
+
+    @Test
+    public void testUnknownAlgorithmIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> HashingStrategies.create("md5", 1, properties));
+    }
+
+    @Test
+    public void testUnknownAlgorithmsAndCostsDoNotMatch() {
+        StrategyPasswordEncoder encoder = encoder(HashingStrategies.BCRYPT, 4);
+        String hash = new BCryptPasswordEncoder(4).encode("secret");
+
+        assertFalse(encoder.matches("secret", "{md5:1}" + hash));
+        assertFalse(encoder.matches("secret", "{bcrypt:99}" + hash));
+        assertFalse(encoder.matches("secret", "{pbkdf2:1}hash"));
+        assertTrue(encoder.matches("secret", "{bcrypt:4}" + hash));
+    }
+
+    @Test
+    public void testCalibrationIsClampedToFloor() {
+        HashingStrategyProperties floored = properties();
+        floored.getMinCost().put(HashingStrategies.BCRYPT, 6);
+
+        int bcrypt = new HashingCalibrator(floored).calibrate(HashingStrategies.BCRYPT, Duration.ofNanos(1));
+
+        assertEquals(6, bcrypt);
+        assertEquals(10, new HashingStrategyProperties().floor(HashingStrategies.BCRYPT));
+        assertEquals(HashingStrategies.minCost(HashingStrategies.ARGON2),
+                properties().floor(HashingStrategies.ARGON2));
+    }
+
+    @Test
+    public void testCalibrationStaysWithinBounds() {
+        HashingCalibrator calibrator = new HashingCalibrator(properties);
+
+        int bcrypt = calibrator.calibrate(HashingStrategies.BCRYPT, Duration.ofMillis(1));
+        int pbkdf2 = calibrator.calibrate(HashingStrategies.PBKDF2, Duration.ofMillis(20));
+
+        assertTrue(bcrypt >= HashingStrategies.minCost(HashingStrategies.BCRYPT) && bcrypt <= 8, "bcrypt " + bcrypt);
+        assertTrue(pbkdf2 >= HashingStrategies.minCost(HashingStrategies.PBKDF2), "pbkdf2 " + pbkdf2);
+    }
+
+    private StrategyPasswordEncoder encoder(String algorithm, int cost) {
+        return new StrategyPasswordEncoder(HashingStrategies.create(algorithm, cost, properties), properties);
+    }
+
+    private static HashingStrategyProperties properties() {
+        HashingStrategyProperties properties = new HashingStrategyProperties();
+        properties.setArgon2MemoryKib(1024);
+        properties.setMinCost(new HashMap<>());
+        return properties;
+    }
+}
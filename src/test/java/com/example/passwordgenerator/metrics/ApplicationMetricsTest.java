@@ -0,0 +1,57 @@
+package com.example.passwordgenerator.metrics;
+
+import com.example.passwordgenerator.cache.PasswordCache;
+import com.example.passwordgenerator.cache.TagCache;
+import com.example.passwordgenerator.entity.Tag;
+import com.example.passwordgenerator.generator.PasswordGenerator;
+import com.example.passwordgenerator.generator.PasswordPregenerator;
+import com.example.passwordgenerator.hashing.PasswordHashingPipeline;
+import com.example.passwordgenerator.service.PasswordService;
+import com.example.passwordgenerator.service.PasswordWriteBehindService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class ApplicationMetricsTest {
+
+    private final PasswordCache passwordCache = new PasswordCache();
+    private final TagCache tagCache = new TagCache();
+    private final PasswordHashingPipeline pipeline =
+            new PasswordHashingPipeline(new BCryptPasswordEncoder(4), 1, 4);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @AfterEach
+    public void tearDown() {
+        pipeline.shutdown();
+    }
+
+    @Test
+    public void testCacheHitsAndMissesAreExported() {
+        new ApplicationMetrics(passwordCache, tagCache, pipeline,
+                new PasswordPregenerator(new PasswordGenerator(0)),
+                new PasswordWriteBehindService(mock(PasswordService.class))).bindTo(registry);
+
+        passwordCache.putGeneratedPassword("key", "value");
+        passwordCache.getGeneratedPassword("key");
+        passwordCache.getGeneratedPassword("missing");
+        tagCache.putTagById(1L, new Tag("work"));
+        tagCache.getTagById(1L);
+        tagCache.getTagById(2L);
+        tagCache.getTagById(3L);
+
+        assertEquals(1.0, registry.get("cache.gets").tags("cache", "generated", "result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tags("cache", "generated", "result", "miss")
+                .functionCounter().count());
+        assertEquals(2.0, registry.get("cache.gets").tags("cache", "tags", "result", "miss")
+                .functionCounter().count());
+        assertEquals(1.0, registry.get("cache.size").tag("cache", "tags").gauge().value());
+        assertEquals(0.0, registry.get("password.hashing.in-flight").gauge().value());
+        assertEquals(0.0, registry.get("password.pregen.fill-ratio").gauge().value());
+        assertEquals(0.0, registry.get("password.write-behind.depth").gauge().value());
+    }
+}
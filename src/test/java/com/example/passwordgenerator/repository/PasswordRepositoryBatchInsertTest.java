@@ -0,0 +1,137 @@
+package com.example.passwordgenerator.repository;
+
+import com.example.passwordgenerator.entity.Password;
+import com.example.passwordgenerator.entity.Tag;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.jdbc.batch_size=50")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+public class PasswordRepositoryBatchInsertTest {
+
+    private static final int ROWS = 1000;
+    private static final int BATCH_SIZE = 50;
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final AtomicInteger BATCHES = new AtomicInteger();
+    private static final AtomicInteger QUERIES = new AtomicInteger();
+    private static final AtomicInteger UPDATES = new AtomicInteger();
+
+    @Autowired
+    private PasswordRepository passwordRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    public void setUp() {
+        BATCHES.set(0);
+        QUERIES.set(0);
+        UPDATES.set(0);
+    }
+
+    @Test
+    public void testBulkInsertIsBatched() {
+        passwordRepository.saveAll(passwords());
+        entityManager.flush();
+
+        assertEquals(ROWS / BATCH_SIZE, BATCHES.get());
+        assertEquals(0, UPDATES.get());
+        assertTrue(QUERIES.get() <= ROWS / ALLOCATION_SIZE + 1, "sequence calls: " + QUERIES.get());
+    }
+
+    @Test
+    public void testJoinTableInsertIsBatched() {
+        List<Password> passwords = passwordRepository.saveAll(passwords());
+        entityManager.flush();
+        setUp();
+
+        Tag tag = new Tag("bulk");
+        tag.getPasswordEntries().addAll(passwords);
+        tagRepository.save(tag);
+        entityManager.flush();
+
+        assertEquals(1 + ROWS / BATCH_SIZE, BATCHES.get());
+        assertEquals(0, UPDATES.get());
+        assertTrue(QUERIES.get() <= 1, "sequence calls: " + QUERIES.get());
+    }
+
+    private static List<Password> passwords() {
+        List<Password> passwords = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            passwords.add(new Password("hash" + i, "owner" + i));
+        }
+        return passwords;
+    }
+
+    @TestConfiguration
+    static class StatementCountingConfig {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource) {
+                        return proxy(DataSource.class, dataSource);
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        private static <T> T proxy(Class<T> type, T target) {
+            Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    (self, method, args) -> {
+                        count(method.getName());
+                        Object result;
+                        try {
+                            result = method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                        if (result instanceof Connection connection) {
+                            return proxy(Connection.class, connection);
+                        }
+                        if (result instanceof Statement statement && method.getName().contains("Statement")) {
+                            return proxy(method.getReturnType().asSubclass(Statement.class), statement);
+                        }
+                        return result;
+                    });
+            return type.cast(proxy);
+        }
+
+        private static void count(String methodName) {
+            switch (methodName) {
+                case "executeBatch" -> BATCHES.incrementAndGet();
+                case "executeQuery" -> QUERIES.incrementAndGet();
+                case "executeUpdate", "execute" -> UPDATES.incrementAndGet();
+                default -> {
+                }
+            }
+        }
+    }
+}
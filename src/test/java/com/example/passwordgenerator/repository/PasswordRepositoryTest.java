@@ -0,0 +1,100 @@
+package com.example.passwordgenerator.repository;
+
+import com.example.passwordgenerator.dto.PasswordSummary;
+import com.example.passwordgenerator.entity.Password;
+import com.example.passwordgenerator.entity.Tag;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+public class PasswordRepositoryTest {
+
+    @Autowired
+    private PasswordRepository passwordRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private List<Password> saved;
+
+    @BeforeEach
+    public void setUp() {
+        List<Password> passwords = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            passwords.add(new Password("hash" + i, "owner" + i));
+        }
+        saved = passwordRepository.saveAll(passwords);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    public void testKeysetPagesCoverAllRowsInOrder() {
+        List<Long> ids = new ArrayList<>();
+        long after = 0;
+        List<Long> page;
+        do {
+            page = passwordRepository.findIdsAfter(after, Limit.of(10));
+            ids.addAll(page);
+            if (!page.isEmpty()) {
+                after = page.get(page.size() - 1);
+            }
+        } while (page.size() == 10);
+
+        assertEquals(saved.stream().map(Password::getId).sorted().toList(), ids);
+    }
+
+    @Test
+    public void testFindWithTagsByIdInKeepsIdOrder() {
+        List<Long> ids = saved.stream().map(Password::getId).sorted().limit(5).toList();
+
+        assertEquals(ids, passwordRepository.findWithTagsByIdIn(ids).stream().map(Password::getId).toList());
+    }
+
+    @Test
+    public void testForEachOrderedByIdStreamsSummaries() {
+        List<PasswordSummary> streamed = new ArrayList<>();
+        passwordRepository.forEachOrderedById(streamed::add);
+
+        assertEquals(saved.stream().map(Password::getId).sorted().toList(),
+                streamed.stream().map(PasswordSummary::id).toList());
+        assertEquals("owner0", streamed.get(0).owner());
+    }
+
+    @Test
+    public void testFindNewestIds() {
+        List<Long> newest = saved.stream().map(Password::getId).sorted((a, b) -> Long.compare(b, a)).limit(3).toList();
+
+        assertEquals(newest, passwordRepository.findNewestIds(Limit.of(3)));
+    }
+
+    @Test
+    public void testFindMostUsedTagNames() {
+        Tag rare = new Tag("rare");
+        rare.getPasswordEntries().add(entityManager.find(Password.class, saved.get(0).getId()));
+        Tag popular = new Tag("popular");
+        for (int i = 0; i < 3; i++) {
+            popular.getPasswordEntries().add(entityManager.find(Password.class, saved.get(i).getId()));
+        }
+        tagRepository.saveAll(List.of(rare, popular, new Tag("unused")));
+        entityManager.flush();
+
+        assertEquals(List.of("popular", "rare"), tagRepository.findMostUsedNames(Limit.of(5)));
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.passwordgenerator.repository;
+
+import com.example.passwordgenerator.entity.Password;
+import com.example.passwordgenerator.entity.Tag;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+public class PasswordTagFetchPlanTest {
+
+    private static final int PASSWORDS = 120;
+    private static final int TAGS = 6;
+
+    @Autowired
+    private PasswordRepository passwordRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        List<Password> passwords = new ArrayList<>();
+        for (int i = 0; i < PASSWORDS; i++) {
+            passwords.add(new Password("hash" + i, "owner" + i));
+        }
+        passwords = passwordRepository.saveAll(passwords);
+        for (int t = 0; t < TAGS; t++) {
+            Tag tag = new Tag("tag" + t);
+            for (int i = t % 2; i < PASSWORDS; i += 2) {
+                tag.getPasswordEntries().add(passwords.get(i));
+            }
+            tagRepository.save(tag);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void testFindAllPasswordsLoadsTagsInOneStatement() {
+        List<Password> passwords = passwordRepository.findAll();
+
+        assertEquals(PASSWORDS, passwords.size());
+        assertEquals(PASSWORDS * TAGS / 2, passwords.stream().mapToInt(p -> p.getTags().size()).sum());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testFindPasswordsByTagIdsLoadsAllTagsInOneStatement() {
+        Long tagId = tagRepository.findAllSummaries().get(0).id();
+        statistics.clear();
+
+        List<Password> passwords = passwordRepository.findPasswordsByTagIds(List.of(tagId));
+
+        assertEquals(PASSWORDS / 2, passwords.size());
+        assertTrue(passwords.stream().allMatch(p -> p.getTags().size() == TAGS / 2));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testFindAllTagsLoadsPasswordsInOneStatement() {
+        List<Tag> tags = tagRepository.findAll();
+
+        assertEquals(TAGS, tags.size());
+        assertTrue(tags.stream().allMatch(t -> t.getPasswordEntries().size() == PASSWORDS / 2));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testKeysetPageUsesTwoStatements() {
+        List<Long> ids = passwordRepository.findIdsAfter(0L, Limit.of(100));
+        List<Password> page = passwordRepository.findWithTagsByIdIn(ids);
+
+        assertEquals(100, page.size());
+        page.forEach(p -> p.getTags().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testSummariesNeverTouchCollections() {
+        assertEquals(PASSWORDS, passwordRepository.findAllSummaries().size());
+        assertEquals(TAGS, tagRepository.findAllSummaries().size());
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+}
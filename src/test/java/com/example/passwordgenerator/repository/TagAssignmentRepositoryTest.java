@@ -0,0 +1,71 @@
+package com.example.passwordgenerator.repository;
+
+import com.example.passwordgenerator.entity.Password;
+import com.example.passwordgenerator.entity.Tag;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+public class TagAssignmentRepositoryTest {
+
+    @Autowired
+    private PasswordRepository passwordRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private List<Long> passwordIds;
+    private List<Long> tagIds;
+
+    @BeforeEach
+    public void setUp() {
+        passwordIds = passwordRepository.saveAll(List.of(new Password("h1", "o1"), new Password("h2", "o2"),
+                new Password("h3", "o3"))).stream().map(Password::getId).toList();
+        tagIds = tagRepository.saveAll(List.of(new Tag("work"), new Tag("home"))).stream()
+                .map(Tag::getId).toList();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    public void testAttachIsIdempotentAndSkipsUnknownIds() {
+        assertEquals(6, tagRepository.attachPasswords(tagIds, passwordIds));
+        assertEquals(0, tagRepository.attachPasswords(tagIds, passwordIds));
+        assertEquals(0, tagRepository.attachPasswords(tagIds, List.of(-1L)));
+
+        assertEquals(3, tagRepository.findById(tagIds.get(0)).orElseThrow().getPasswordEntries().size());
+    }
+
+    @Test
+    public void testDetachRemovesOnlyGivenPairs() {
+        tagRepository.attachPasswords(tagIds, passwordIds);
+
+        assertEquals(2, tagRepository.detachPasswords(List.of(tagIds.get(0)), passwordIds.subList(0, 2)));
+
+        entityManager.clear();
+        assertEquals(Set.of(passwordIds.get(2)), tagRepository.findById(tagIds.get(0)).orElseThrow()
+                .getPasswordEntries().stream().map(Password::getId).collect(Collectors.toSet()));
+        assertEquals(3, tagRepository.findById(tagIds.get(1)).orElseThrow().getPasswordEntries().size());
+    }
+
+    @Test
+    public void testFindNamesByIdIn() {
+        assertEquals(Set.of("work", "home"), Set.copyOf(tagRepository.findNamesByIdIn(tagIds)));
+    }
+}
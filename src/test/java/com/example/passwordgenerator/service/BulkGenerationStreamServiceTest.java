@@ -0,0 +1,122 @@
+package com.example.passwordgenerator.service;
+
+import com.example.passwordgenerator.dto.PasswordGenerationRequest;
+import com.example.passwordgenerator.entity.Password;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class BulkGenerationStreamServiceTest {
+
+    private PasswordService passwordService;
+    private BulkGenerationStreamService streamService;
+
+    @BeforeEach
+    public void setUp() {
+        passwordService = mock(PasswordService.class);
+        AtomicInteger counter = new AtomicInteger();
+        when(passwordService.generatePasswordsBatch(anyList())).thenAnswer(invocation -> {
+            List<PasswordGenerationRequest> chunk = invocation.getArgument(0);
+            return chunk.stream().map(request -> "pass" + counter.incrementAndGet()).toList();
+        });
+        streamService = new BulkGenerationStreamService(passwordService, 3, 2, 2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        streamService.shutdown();
+    }
+
+    @Test
+    public void testEmitsInOrderAndPersistsInChunks() {
+        List<Integer> chunkSizes = Collections.synchronizedList(new ArrayList<>());
+        List<String> persisted = Collections.synchronizedList(new ArrayList<>());
+        when(passwordService.createBulk(anyList())).thenAnswer(invocation -> {
+            List<Password> chunk = invocation.getArgument(0);
+            chunkSizes.add(chunk.size());
+            chunk.forEach(password -> persisted.add(password.getPassword()));
+            return chunk;
+        });
+        List<String> emitted = new ArrayList<>();
+
+        int generated = streamService.generate(requests(7).iterator(), emitted::add);
+
+        assertEquals(7, generated);
+        assertEquals(List.of("pass1", "pass2", "pass3", "pass4", "pass5", "pass6", "pass7"), emitted);
+        assertEquals(List.of(1, 3, 3), chunkSizes.stream().sorted().toList());
+        assertEquals(emitted, persisted.stream().sorted().toList());
+    }
+
+    @Test
+    public void testNullRequestsAreSkipped() {
+        List<PasswordGenerationRequest> requests = Arrays.asList(
+                new PasswordGenerationRequest(8, 2, "user1"), null, new PasswordGenerationRequest(8, 2, "user2"));
+        List<String> emitted = new ArrayList<>();
+
+        assertEquals(2, streamService.generate(requests.iterator(), emitted::add));
+        assertEquals(2, emitted.size());
+        verify(passwordService).createBulk(argThat(chunk -> chunk.size() == 2));
+    }
+
+    @Test
+    public void testPersistenceFailureIsPropagated() {
+        when(passwordService.createBulk(anyList())).thenThrow(new IllegalStateException("db down"));
+
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> streamService.generate(requests(4).iterator(), password -> { }));
+        assertEquals("db down", error.getMessage());
+    }
+
+    @Test
+    public void testPendingChunksAreBounded() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(passwordService.createBulk(anyList())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(10);
+            running.decrementAndGet();
+            return invocation.getArgument(0);
+        });
+
+        streamService.generate(requests(30).iterator(), password -> { });
+
+        assertTrue(maxRunning.get() <= 2);
+        verify(passwordService, times(10)).createBulk(anyList());
+    }
+
+    @Test
+    public void testGeneratesWholeChunksWithoutPerItemCalls() {
+        streamService.generate(requests(7).iterator(), password -> { });
+
+        verify(passwordService, times(2)).generatePasswordsBatch(argThat(chunk -> chunk.size() == 3));
+        verify(passwordService).generatePasswordsBatch(argThat(chunk -> chunk.size() == 1));
+        verify(passwordService, never()).generatePassword(anyInt(), anyInt(), anyString());
+    }
+
+    @Test
+    public void testInvalidItemStopsBeforePersisting() {
+        when(passwordService.generatePasswordsBatch(anyList())).thenThrow(new IllegalArgumentException("bad"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> streamService.generate(requests(2).iterator(), password -> { }));
+        verify(passwordService, never()).createBulk(anyList());
+    }
+
+    private static List<PasswordGenerationRequest> requests(int count) {
+        List<PasswordGenerationRequest> requests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            requests.add(new PasswordGenerationRequest(8, 2, "user" + i));
+        }
+        return requests;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.passwordgenerator.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class CacheWarmupServiceTest {
+
+    private PasswordService passwordService;
+    private TagService tagService;
+
+    @BeforeEach
+    public void setUp() {
+        passwordService = mock(PasswordService.class);
+        tagService = mock(TagService.class);
+        when(tagService.findMostUsedNames(2)).thenReturn(List.of("work", "home"));
+    }
+
+    @Test
+    public void testWarmUpLoadsTagsTopListsAndNewestPasswords() {
+        CacheWarmupService warmup = new CacheWarmupService(passwordService, tagService, true, 2, 50,
+                Duration.ofSeconds(10), 2);
+
+        assertTrue(warmup.warmUp());
+
+        verify(tagService).findAll();
+        verify(passwordService).preloadNewest(50);
+        verify(passwordService).findPasswordsByTagName("work");
+        verify(passwordService).findPasswordsByTagName("home");
+    }
+
+    @Test
+    public void testWarmUpStopsAtBudget() {
+        CountDownLatch never = new CountDownLatch(1);
+        when(tagService.findAll()).thenAnswer(invocation -> {
+            never.await();
+            return List.of();
+        });
+        CacheWarmupService warmup = new CacheWarmupService(passwordService, tagService, true, 0, 0,
+                Duration.ofMillis(100), 1);
+
+        long start = System.nanoTime();
+        assertFalse(warmup.warmUp());
+        assertTrue(System.nanoTime() - start < Duration.ofSeconds(5).toNanos());
+    }
+
+    @Test
+    public void testFailedLoadDoesNotBlockStartup() {
+        when(passwordService.preloadNewest(10)).thenThrow(new IllegalStateException("db down"));
+        CacheWarmupService warmup = new CacheWarmupService(passwordService, tagService, true, 0, 10,
+                Duration.ofSeconds(10), 2);
+
+        assertFalse(warmup.warmUp());
+    }
+
+    @Test
+    public void testDisabledWarmUpDoesNothing() {
+        new CacheWarmupService(passwordService, tagService, false, 2, 50, Duration.ofSeconds(10), 2)
+                .run(null);
+
+        verifyNoInteractions(passwordService, tagService);
+    }
+}
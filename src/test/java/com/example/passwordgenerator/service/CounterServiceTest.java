@@ -1,5 +1,6 @@
 package com.example.passwordgenerator.service;
 
+import com.example.passwordgenerator.counter.CounterSnapshot;
 import com.example.passwordgenerator.counter.RequestCounterInterface;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -7,6 +8,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Map;
+
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -30,4 +33,12 @@ public class CounterServiceTest {
         counterService.resetRequestCount();
         verify(requestCounter).reset();
     }
+
+    @Test
+    public void testGetSnapshot() {
+        CounterSnapshot snapshot = new CounterSnapshot(3L, Map.of("single", 3L), Map.of("2", 3L),
+                Map.of("success", 3L));
+        when(requestCounter.snapshot()).thenReturn(snapshot);
+        assertSame(snapshot, counterService.getSnapshot());
+    }
 }
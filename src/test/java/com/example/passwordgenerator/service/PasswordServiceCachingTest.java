@@ -0,0 +1,72 @@
+package com.example.passwordgenerator.service;
+
+import com.example.passwordgenerator.cache.PasswordCache;
+import com.example.passwordgenerator.entity.Password;
+import com.example.passwordgenerator.entity.Tag;
+import com.example.passwordgenerator.generator.PasswordPregenerator;
+import com.example.passwordgenerator.hashing.PasswordHashingPipeline;
+import com.example.passwordgenerator.repository.PasswordRepository;
+import com.example.passwordgenerator.repository.TagRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Runs without a test transaction so cached entities are read the way a request thread sees them.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class PasswordServiceCachingTest {
+
+    @Autowired
+    private PasswordRepository passwordRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    private PasswordService passwordService;
+
+    @BeforeEach
+    public void setUp() {
+        PasswordHashingPipeline hashingPipeline = mock(PasswordHashingPipeline.class);
+        when(hashingPipeline.encode(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        passwordService = new PasswordService(passwordRepository, new PasswordCache(),
+                mock(PasswordPregenerator.class), hashingPipeline, mock(TagService.class));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        tagRepository.deleteAll();
+        passwordRepository.deleteAll();
+    }
+
+    @Test
+    public void testCachedFindAllKeepsTagsAfterUpdate() {
+        Password password = passwordRepository.save(new Password("hash", "owner"));
+        Tag tag = new Tag("work");
+        tag.getPasswordEntries().add(password);
+        tagRepository.save(tag);
+        assertEquals(1, passwordService.findAll().get(0).getTags().size());
+
+        Password changed = new Password("hash2", "owner");
+        changed.setId(password.getId());
+        passwordService.update(changed);
+
+        Password cached = passwordService.findAll().get(0);
+        assertEquals("hash2", cached.getPassword());
+        assertEquals(List.of("work"), cached.getTags().stream().map(Tag::getName).toList());
+    }
+}
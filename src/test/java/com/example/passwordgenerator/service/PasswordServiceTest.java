@@ -2,21 +2,27 @@ package com.example.passwordgenerator.service;
 
 import com.example.passwordgenerator.cache.PasswordCache;
 import com.example.passwordgenerator.dto.PasswordGenerationRequest;
+import com.example.passwordgenerator.dto.PasswordPage;
 import com.example.passwordgenerator.entity.Password;
+import com.example.passwordgenerator.generator.PasswordGenerator;
+import com.example.passwordgenerator.generator.PasswordPregenerator;
+import com.example.passwordgenerator.hashing.PasswordHashingPipeline;
 import com.example.passwordgenerator.repository.PasswordRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 public class PasswordServiceTest {
@@ -30,13 +36,18 @@ public class PasswordServiceTest {
     @Mock
     private BCryptPasswordEncoder passwordEncoder;
 
-    @InjectMocks
+    @Mock
+    private TagService tagService;
+
     private PasswordService passwordService;
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
-        passwordService = new PasswordService(passwordRepository, passwordCache, passwordEncoder);
+        passwordService = new PasswordService(passwordRepository, passwordCache,
+                new PasswordPregenerator(new PasswordGenerator(0)), new PasswordHashingPipeline(passwordEncoder, 2, 4),
+                tagService);
+        when(tagService.nameKey(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
     }
 
     @Test
@@ -170,6 +181,21 @@ public class PasswordServiceTest {
         verify(passwordEncoder).encode("pass1");
     }
 
+    @Test
+    public void testCreateBulkHashesInOrderAndSavesOnce() {
+        List<Password> passwords = List.of(new Password("pass1", "user1"), new Password("pass2", "user2"),
+                new Password("pass3", "user3"));
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> "hashed_" + invocation.getArgument(0));
+        when(passwordRepository.saveAll(passwords)).thenReturn(passwords);
+        List<Password> saved = passwordService.createBulk(passwords);
+        assertEquals(List.of("hashed_pass1", "hashed_pass2", "hashed_pass3"),
+                saved.stream().map(Password::getPassword).toList());
+        verify(passwordRepository).saveAll(passwords);
+        verify(passwordRepository, never()).save(any(Password.class));
+        verify(passwordCache).refreshPasswords(passwords);
+        verify(passwordCache, never()).clearDatabaseCache();
+    }
+
     @Test
     public void testUpdate() {
         Password password = new Password("updatedPass", "user1");
@@ -188,6 +214,8 @@ public class PasswordServiceTest {
         doNothing().when(passwordRepository).deleteById(1L);
         passwordService.delete(1L);
         verify(passwordRepository, times(1)).deleteById(1L);
+        verify(passwordCache).evictPassword(1L);
+        verify(passwordCache, never()).clearDatabaseCache();
     }
 
     @Test
@@ -198,6 +226,36 @@ public class PasswordServiceTest {
         assertFalse(result.isPresent());
     }
 
+    @Test
+    public void testLoadOverlappingAWriteIsNotCached() {
+        Password stale = new Password("hash1", "user1");
+        stale.setId(1L);
+        when(passwordCache.getAllPasswords()).thenReturn(Optional.empty());
+        when(passwordCache.getPasswordById(1L)).thenReturn(Optional.empty());
+        when(passwordCache.getPasswordsByTag("work")).thenReturn(Optional.empty());
+        when(tagService.findTagIdsByName("work")).thenReturn(Set.of(7L));
+        when(passwordRepository.findAll()).thenAnswer(invocation -> {
+            passwordService.delete(1L);
+            return List.of(stale);
+        });
+        when(passwordRepository.findById(1L)).thenAnswer(invocation -> {
+            passwordService.delete(1L);
+            return Optional.of(stale);
+        });
+        when(passwordRepository.findPasswordsByTagIds(Set.of(7L))).thenAnswer(invocation -> {
+            passwordService.delete(1L);
+            return List.of(stale);
+        });
+
+        assertEquals(List.of(stale), passwordService.findAll());
+        assertEquals(Optional.of(stale), passwordService.findById(1L));
+        assertEquals(List.of(stale), passwordService.findPasswordsByTagName("work"));
+
+        verify(passwordCache, never()).putAllPasswords(any());
+        verify(passwordCache, never()).putPasswordById(any(), any());
+        verify(passwordCache, never()).putPasswordsByTag(any(), any());
+    }
+
     @Test
     public void testFindAllEmpty() {
         when(passwordCache.getAllPasswords()).thenReturn(Optional.empty());
@@ -206,14 +264,63 @@ public class PasswordServiceTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    public void testFindPageReturnsNextCursorWhenFull() {
+        Password p1 = new Password("hash1", "user1");
+        p1.setId(5L);
+        Password p2 = new Password("hash2", "user2");
+        p2.setId(9L);
+        when(passwordRepository.findIdsAfter(4L, Limit.of(2))).thenReturn(List.of(5L, 9L));
+        when(passwordRepository.findWithTagsByIdIn(List.of(5L, 9L))).thenReturn(List.of(p1, p2));
+        PasswordPage page = passwordService.findPage(4L, 2);
+        assertEquals(List.of(p1, p2), page.items());
+        assertEquals(9L, page.nextAfter());
+        verify(passwordRepository, never()).findAll();
+    }
+
+    @Test
+    public void testFindPageLastPageHasNoCursor() {
+        Password p1 = new Password("hash1", "user1");
+        p1.setId(5L);
+        when(passwordRepository.findIdsAfter(0L, Limit.of(10))).thenReturn(List.of(5L));
+        when(passwordRepository.findWithTagsByIdIn(List.of(5L))).thenReturn(List.of(p1));
+        assertNull(passwordService.findPage(0L, 10).nextAfter());
+    }
+
+    @Test
+    public void testFindPageEmptySkipsFetch() {
+        when(passwordRepository.findIdsAfter(100L, Limit.of(10))).thenReturn(List.of());
+        PasswordPage page = passwordService.findPage(100L, 10);
+        assertTrue(page.items().isEmpty());
+        assertNull(page.nextAfter());
+        verify(passwordRepository, never()).findWithTagsByIdIn(any());
+    }
+
+    @Test
+    public void testFindPageInvalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> passwordService.findPage(0L, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> passwordService.findPage(0L, PasswordService.MAX_PAGE_SIZE + 1));
+    }
+
     @Test
     public void testFindPasswordsByTagNameEmpty() {
         when(passwordCache.getPasswordsByTag("tag1")).thenReturn(Optional.empty());
-        when(passwordRepository.findPasswordsByTagName("tag1")).thenReturn(List.of());
+        when(tagService.findTagIdsByName("tag1")).thenReturn(Set.of(3L));
+        when(passwordRepository.findPasswordsByTagIds(Set.of(3L))).thenReturn(List.of());
         List<Password> result = passwordService.findPasswordsByTagName("tag1");
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    public void testFindPasswordsByUnknownTagSkipsQuery() {
+        when(passwordCache.getPasswordsByTag("missing")).thenReturn(Optional.empty());
+        when(tagService.findTagIdsByName("missing")).thenReturn(Set.of());
+        assertTrue(passwordService.findPasswordsByTagName("missing").isEmpty());
+        verify(passwordRepository, never()).findPasswordsByTagIds(any());
+        verify(passwordCache).putPasswordsByTag("missing", List.of());
+    }
+
     @Test
     public void testGeneratePasswordsBulkCacheConsistency() {
         List<PasswordGenerationRequest> requests = Arrays.asList(new PasswordGenerationRequest(8, 2, "user1"));
@@ -228,4 +335,42 @@ public class PasswordServiceTest {
         List<String> secondCall = passwordService.generatePasswordsBulk(requests);
         assertEquals(firstCall, secondCall);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testPreloadNewestFillsByIdCache() {
+        Password p1 = new Password("hash1", "user1");
+        p1.setId(9L);
+        when(passwordRepository.findNewestIds(Limit.of(2))).thenReturn(List.of(9L));
+        when(passwordRepository.findWithTagsByIdIn(List.of(9L))).thenReturn(List.of(p1));
+
+        assertEquals(1, passwordService.preloadNewest(2));
+        verify(passwordCache).putPasswordById(9L, p1);
+    }
+
+    @Test
+    public void testGeneratePasswordsBulkValidatesBeforeGenerating() {
+        List<PasswordGenerationRequest> requests = Arrays.asList(
+                new PasswordGenerationRequest(8, 2, "user1"),
+                new PasswordGenerationRequest(3, 2, "user2")
+        );
+
+        assertThrows(IllegalArgumentException.class, () -> passwordService.generatePasswordsBulk(requests));
+
+        verifyNoInteractions(passwordRepository);
+        verify(passwordCache, never()).getBulkPasswords(anyString());
+    }
+
+    @Test
+    public void testGeneratePasswordsBatchSkipsCacheAndPersistence() {
+        List<PasswordGenerationRequest> requests = Arrays.asList(
+                new PasswordGenerationRequest(8, 2, "user1"),
+                new PasswordGenerationRequest(8, 2, "user1")
+        );
+
+        List<String> passwords = passwordService.generatePasswordsBatch(requests);
+
+        assertEquals(2, passwords.size());
+        assertNotEquals(passwords.get(0), passwords.get(1));
+        verifyNoInteractions(passwordCache, passwordRepository);
+    }
+}
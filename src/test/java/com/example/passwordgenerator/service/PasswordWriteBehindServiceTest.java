@@ -0,0 +1,159 @@
+package com.example.passwordgenerator.service;
+
+import com.example.passwordgenerator.entity.Password;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class PasswordWriteBehindServiceTest {
+
+    private PasswordService passwordService;
+    private PasswordWriteBehindService writeBehindService;
+    private final List<String> persisted = Collections.synchronizedList(new ArrayList<>());
+    private final List<Integer> batches = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    public void setUp() {
+        passwordService = mock(PasswordService.class);
+        when(passwordService.createBulk(anyList())).thenAnswer(invocation -> {
+            List<Password> batch = invocation.getArgument(0);
+            batches.add(batch.size());
+            batch.forEach(password -> persisted.add(password.getPassword()));
+            return batch;
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (writeBehindService != null) {
+            writeBehindService.shutdown();
+        }
+    }
+
+    @Test
+    public void testDisabledPersistsSynchronously() {
+        writeBehindService = new PasswordWriteBehindService(passwordService);
+        Password password = new Password("pass", "owner");
+
+        writeBehindService.persist(password);
+
+        verify(passwordService).create(password);
+        verify(passwordService, never()).createBulk(anyList());
+    }
+
+    @Test
+    public void testShutdownFlushesQueueInBatches() {
+        writeBehindService = new PasswordWriteBehindService(passwordService, true, 100, 4, 1,
+                Duration.ofSeconds(1), Duration.ofSeconds(10));
+
+        for (int i = 0; i < 10; i++) {
+            writeBehindService.persist(new Password("pass" + i, "owner"));
+        }
+        writeBehindService.shutdown();
+
+        assertEquals(10, persisted.size());
+        assertTrue(batches.stream().allMatch(size -> size <= 4), batches.toString());
+        assertEquals(10, writeBehindService.stats().persisted());
+        assertEquals(0, writeBehindService.stats().depth());
+        verify(passwordService, never()).create(any());
+    }
+
+    @Test
+    public void testFullQueueFallsBackToCallerThread() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch draining = new CountDownLatch(1);
+        when(passwordService.createBulk(anyList())).thenAnswer(invocation -> {
+            draining.countDown();
+            release.await();
+            return invocation.getArgument(0);
+        });
+        writeBehindService = new PasswordWriteBehindService(passwordService, true, 1, 1, 1,
+                Duration.ofMillis(1), Duration.ofSeconds(10));
+
+        writeBehindService.persist(new Password("first", "owner"));
+        assertTrue(draining.await(5, TimeUnit.SECONDS));
+        writeBehindService.persist(new Password("queued", "owner"));
+        writeBehindService.persist(new Password("overflow", "owner"));
+
+        assertEquals(1, writeBehindService.stats().depth());
+        assertEquals(1, writeBehindService.stats().callerRuns());
+        verify(passwordService).create(argThat(password -> password.getPassword().equals("overflow")));
+        release.countDown();
+    }
+
+    @Test
+    public void testFailedBatchIsCounted() {
+        when(passwordService.createBulk(anyList())).thenThrow(new IllegalStateException("db down"));
+        when(passwordService.create(any(Password.class))).thenThrow(new IllegalStateException("db down"));
+        writeBehindService = new PasswordWriteBehindService(passwordService, true, 10, 10, 1,
+                Duration.ofSeconds(1), Duration.ofSeconds(10), 2, Duration.ofMillis(1));
+
+        writeBehindService.persist(new Password("pass", "owner"));
+        writeBehindService.shutdown();
+
+        assertEquals(1, writeBehindService.stats().failed());
+        assertEquals(0, writeBehindService.stats().persisted());
+        verify(passwordService, times(2)).createBulk(anyList());
+    }
+
+    @Test
+    public void testTransientFailureIsRetriedWithRawPasswords() {
+        List<String> attempts = Collections.synchronizedList(new ArrayList<>());
+        when(passwordService.createBulk(anyList())).thenAnswer(invocation -> {
+            List<Password> batch = invocation.getArgument(0);
+            batch.forEach(password -> attempts.add(password.getPassword()));
+            batch.forEach(password -> password.setPassword("hashed"));
+            if (attempts.size() == 1) {
+                throw new IllegalStateException("db blip");
+            }
+            return batch;
+        });
+        writeBehindService = new PasswordWriteBehindService(passwordService, true, 10, 10, 1,
+                Duration.ofSeconds(1), Duration.ofSeconds(10), 3, Duration.ofMillis(1));
+
+        writeBehindService.persist(new Password("pass", "owner"));
+        writeBehindService.shutdown();
+
+        assertEquals(List.of("pass", "pass"), attempts);
+        assertEquals(1, writeBehindService.stats().persisted());
+        assertEquals(0, writeBehindService.stats().failed());
+    }
+
+    @Test
+    public void testBadRowIsIsolatedFromItsBatch() throws InterruptedException {
+        CountDownLatch queued = new CountDownLatch(1);
+        when(passwordService.createBulk(anyList())).thenAnswer(invocation -> {
+            queued.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("constraint violation");
+        });
+        when(passwordService.create(any(Password.class))).thenAnswer(invocation -> {
+            Password password = invocation.getArgument(0);
+            if ("bad".equals(password.getPassword())) {
+                throw new IllegalStateException("constraint violation");
+            }
+            return password;
+        });
+        writeBehindService = new PasswordWriteBehindService(passwordService, true, 10, 10, 1,
+                Duration.ofSeconds(1), Duration.ofSeconds(10), 1, Duration.ofMillis(1));
+
+        writeBehindService.persist(new Password("good", "owner1"));
+        writeBehindService.persist(new Password("bad", "owner2"));
+        writeBehindService.persist(new Password("good", "owner3"));
+        queued.countDown();
+        writeBehindService.shutdown();
+
+        assertEquals(2, writeBehindService.stats().persisted());
+        assertEquals(1, writeBehindService.stats().failed());
+    }
+}
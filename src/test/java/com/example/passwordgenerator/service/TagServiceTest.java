@@ -1,19 +1,27 @@
 package com.example.passwordgenerator.service;
 
+import com.example.passwordgenerator.cache.DataVersion;
+import com.example.passwordgenerator.cache.PasswordCache;
 import com.example.passwordgenerator.cache.TagCache;
+import com.example.passwordgenerator.dto.TagAssignmentRequest;
+import com.example.passwordgenerator.dto.TagSummary;
 import com.example.passwordgenerator.entity.Tag;
 import com.example.passwordgenerator.repository.TagRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 public class TagServiceTest {
@@ -24,12 +32,19 @@ public class TagServiceTest {
     @Mock
     private TagCache tagCache;
 
-    @InjectMocks
+    @Mock
+    private PasswordCache passwordCache;
+
+    private final DataVersion dataVersion = new DataVersion();
+
     private TagService tagService;
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
+        tagService = new TagService(tagRepository, tagCache, passwordCache, dataVersion,
+                PasswordService.DEFAULT_LOAD_TIMEOUT);
+        when(tagCache.nameKey(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
     }
 
     @Test
@@ -48,7 +63,7 @@ public class TagServiceTest {
     public void testUpdateTagNotFound() {
         Tag tag = new Tag("newTag");
         tag.setId(999L);
-        when(tagRepository.existsById(999L)).thenReturn(false);
+        when(tagRepository.findById(999L)).thenReturn(Optional.empty());
 
         assertThrows(IllegalArgumentException.class, () -> tagService.update(tag));
     }
@@ -101,27 +116,164 @@ public class TagServiceTest {
         Tag saved = tagService.create(tag);
         assertEquals("newTag", saved.getName());
         assertEquals(1L, saved.getId());
-        verify(tagCache).clearCache();
+        verify(tagCache).refreshTag(saved);
+        verify(passwordCache).evictPasswordsByTag("newTag");
+        verify(tagCache, never()).clearCache();
     }
 
     @Test
     public void testUpdate() {
         Tag tag = new Tag("updatedTag");
         tag.setId(1L);
-        when(tagRepository.existsById(1L)).thenReturn(true);
+        Tag previous = new Tag("oldTag");
+        previous.setId(1L);
+        when(tagRepository.findNamesByIdIn(List.of(1L))).thenReturn(List.of(previous.getName()));
         when(tagRepository.save(any(Tag.class))).thenReturn(tag);
 
         Tag updated = tagService.update(tag);
         assertEquals("updatedTag", updated.getName());
         assertEquals(1L, updated.getId());
-        verify(tagCache).clearCache();
+        verify(tagCache).refreshTag(tag);
+        verify(passwordCache).evictPasswordsByTag("oldTag");
+        verify(passwordCache).evictPasswordsByTag("updatedTag");
+        verify(tagRepository, never()).findById(anyLong());
+        verify(tagCache, never()).clearCache();
     }
 
     @Test
     public void testDelete() {
+        Tag tag = new Tag("tag1");
+        tag.setId(1L);
+        when(tagCache.getTagById(1L)).thenReturn(Optional.of(tag));
         doNothing().when(tagRepository).deleteById(1L);
         tagService.delete(1L);
         verify(tagRepository).deleteById(1L);
-        verify(tagCache).clearCache();
+        verify(tagCache).evictTag(1L);
+        verify(passwordCache).evictPasswordsByTag("tag1");
+        verify(tagCache, never()).clearCache();
+    }
+
+    @Test
+    public void testWritesBumpDataVersion() {
+        Tag tag = new Tag("tag1");
+        tag.setId(1L);
+        when(tagRepository.save(tag)).thenReturn(tag);
+        when(tagCache.getTagById(1L)).thenReturn(Optional.of(tag));
+        String initialEtag = dataVersion.etag();
+
+        tagService.create(tag);
+        tagService.delete(1L);
+
+        assertEquals(2, dataVersion.current());
+        assertNotEquals(initialEtag, dataVersion.etag());
+    }
+
+    @Test
+    public void testLoadOverlappingAWriteIsNotCached() {
+        Tag tag = new Tag("tag1");
+        tag.setId(1L);
+        when(tagCache.getAllTags()).thenReturn(Optional.empty());
+        when(tagCache.getTagById(1L)).thenReturn(Optional.empty());
+        when(tagRepository.save(tag)).thenReturn(tag);
+        when(tagRepository.findAll()).thenAnswer(invocation -> {
+            tagService.create(tag);
+            return List.of();
+        });
+        when(tagRepository.findById(1L)).thenAnswer(invocation -> {
+            tagService.create(tag);
+            return Optional.of(new Tag("stale"));
+        });
+
+        assertEquals(List.of(), tagService.findAll());
+        assertEquals("stale", tagService.findById(1L).orElseThrow().getName());
+
+        verify(tagCache, never()).putAllTags(any());
+        verify(tagCache, never()).putTagById(anyLong(), any());
+    }
+
+    @Test
+    public void testNoOpAssignmentKeepsDataVersion() {
+        TagAssignmentRequest request = new TagAssignmentRequest(Set.of(1L), Set.of(2L));
+        when(tagRepository.attachPasswords(request.tagIds(), request.passwordIds())).thenReturn(0);
+
+        tagService.attachPasswords(request);
+
+        assertEquals(0, dataVersion.current());
+    }
+
+    @Test
+    public void testFindTagIdsByNameUsesIndex() {
+        when(tagCache.findTagIds("work")).thenReturn(Optional.of(Set.of(1L)));
+
+        assertEquals(Set.of(1L), tagService.findTagIdsByName("work"));
+        verifyNoInteractions(tagRepository);
+    }
+
+    @Test
+    public void testFindTagIdsByNameLoadsIndexOnce() {
+        List<TagSummary> tags = List.of(new TagSummary(1L, "work"), new TagSummary(2L, "home"));
+        when(tagCache.findTagIds("home")).thenReturn(Optional.empty(), Optional.of(Set.of(2L)));
+        when(tagCache.nameIndexVersion()).thenReturn(7L);
+        when(tagRepository.findAllSummaries()).thenReturn(tags);
+        when(tagCache.loadNameIndex(tags, 7L)).thenReturn(true);
+
+        assertEquals(Set.of(2L), tagService.findTagIdsByName("home"));
+    }
+
+    @Test
+    public void testFindTagIdsByNameFallsBackWhenIndexRaced() {
+        List<TagSummary> tags = List.of(new TagSummary(1L, "work"), new TagSummary(2L, "work"));
+        when(tagCache.findTagIds("work")).thenReturn(Optional.empty());
+        when(tagRepository.findAllSummaries()).thenReturn(tags);
+        when(tagCache.loadNameIndex(eq(tags), anyLong())).thenReturn(false);
+
+        assertEquals(Set.of(1L, 2L), tagService.findTagIdsByName("work"));
+    }
+
+    @Test
+    public void testFindByIdsLoadsOnlyMissingTags() {
+        Tag cached = new Tag("cached");
+        cached.setId(1L);
+        Tag loaded = new Tag("loaded");
+        loaded.setId(2L);
+        when(tagCache.getTagsByIds(List.of(1L, 2L))).thenReturn(new ArrayList<>(List.of(cached)));
+        when(tagRepository.findAllById(Set.of(2L))).thenReturn(List.of(loaded));
+
+        List<Tag> result = tagService.findByIds(List.of(1L, 2L));
+
+        assertEquals(List.of(cached, loaded), result);
+        verify(tagCache).putTags(List.of(loaded));
+    }
+
+    @Test
+    public void testAttachPasswordsEvictsAffectedEntries() {
+        TagAssignmentRequest request = new TagAssignmentRequest(Set.of(1L), Set.of(7L, 8L));
+        when(tagRepository.attachPasswords(request.tagIds(), request.passwordIds())).thenReturn(2);
+        when(tagRepository.findNamesByIdIn(request.tagIds())).thenReturn(List.of("work"));
+
+        assertEquals(2, tagService.attachPasswords(request).affected());
+
+        verify(passwordCache).evictTagAssignments(List.of("work"), request.passwordIds());
+        verify(tagCache).invalidateTags(request.tagIds());
+        verify(passwordCache, never()).clearDatabaseCache();
+    }
+
+    @Test
+    public void testDetachWithoutChangesKeepsCaches() {
+        TagAssignmentRequest request = new TagAssignmentRequest(Set.of(1L), Set.of(7L));
+        when(tagRepository.detachPasswords(request.tagIds(), request.passwordIds())).thenReturn(0);
+
+        assertEquals(0, tagService.detachPasswords(request).affected());
+
+        verifyNoInteractions(passwordCache);
+        verify(tagCache, never()).invalidateTags(any());
+    }
+
+    @Test
+    public void testAssignmentRequestIsValidated() {
+        assertThrows(IllegalArgumentException.class,
+                () -> tagService.attachPasswords(new TagAssignmentRequest(null, Set.of(1L))));
+        assertEquals(0, tagService.attachPasswords(new TagAssignmentRequest(Set.of(), Set.of(1L))).affected());
+        verifyNoInteractions(tagRepository);
     }
-}
\ No newline at end of file
+}